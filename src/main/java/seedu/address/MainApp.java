@@ -2,10 +2,13 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -15,15 +18,16 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -46,8 +50,11 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private long initStartTime;
+
     @Override
     public void init() throws Exception {
+        initStartTime = System.nanoTime();
         logger.info("=============================[ Initializing findingbrUdders ]===========================");
         super.init();
 
@@ -57,40 +64,139 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        // Commands are executed on the JavaFX application thread, while the data is saved in the background.
+        LogicManager logicManager = new LogicManager(model, storage, Platform::runLater);
+        logic = logicManager;
+
+        initMeetingArchive(storage, model);
+        if (isLoadedInBackground(userPrefs)) {
+            logger.info("Loading data file " + storage.getAddressBookFilePath() + " in the background");
+            logicManager.loadAddressBookInBackground(
+                    loadedPersonsHandler -> readAddressBook(storage, loadedPersonsHandler),
+                    () -> archivePastMeetings(userPrefs));
+        } else {
+            archivePastMeetings(userPrefs);
+        }
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Returns the storage of the address book file in {@code userPrefs}, which saves in the format in
+     * {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        return StorageManager.createAddressBookStorage(userPrefs.getAddressBookFormat(),
+                userPrefs.getAddressBookFilePath());
+    }
+
+    private static boolean isLoadedInBackground(ReadOnlyUserPrefs userPrefs) {
+        return userPrefs.isAddressBookLoadedInBackground() && !userPrefs.isAddressBookReadOnly();
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}, or
+     * with no data yet if the address book is to be loaded in the background.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
+        if (userPrefs.isAddressBookReadOnly()) {
+            return initReadOnlyModelManager(storage, userPrefs);
+        }
+        if (isLoadedInBackground(userPrefs)) {
+            return new ModelManager(new AddressBook(), userPrefs);
+        }
+
+        return new ModelManager(readAddressBook(storage, persons -> {}), userPrefs);
+    }
+
+    /**
+     * Returns the data from {@code storage}'s address book, handing the persons read to {@code loadedPersonsHandler}
+     * as they are read. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found.
+     * If errors occur when reading {@code storage}'s address book, its newest backup that can be read will be used
+     * instead, or an empty address book if there is no such backup.
+     */
+    private static ReadOnlyAddressBook readAddressBook(Storage storage,
+            Consumer<List<Person>> loadedPersonsHandler) {
         try {
-            addressBookOptional = storage.readAddressBook();
+            Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBookInBatches(loadedPersonsHandler);
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample findingbrUdders.");
             }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            return addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
+            Optional<ReadOnlyAddressBook> backupOptional = storage.readNewestValidBackup();
+            if (backupOptional.isPresent()) {
+                logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                        + " Will be starting with its newest backup that could be loaded.");
+                return backupOptional.get();
+            }
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty findingbrUdders.");
+            return new AddressBook();
+        }
+    }
+
+    /**
+     * Returns a read-only {@code ModelManager} with the data from {@code storage}'s address book and
+     * {@code userPrefs}, which reads persons from the data file only when they are needed if the file is in the
+     * binary format. <br>
+     * An empty address book will be used instead if {@code storage}'s address book is not found or could not be read,
+     * and the data file is left as it is.
+     */
+    private Model initReadOnlyModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        ReadOnlyAddressBook initialData;
+        try {
+            Optional<ReadOnlyAddressBook> addressBookOptional = storage.mapAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.warning("Data file " + storage.getAddressBookFilePath() + " not found."
+                        + " Will be viewing an empty findingbrUdders.");
+            }
+            initialData = addressBookOptional.orElseGet(AddressBook::new);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be viewing an empty findingbrUdders.");
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return ModelManager.readOnly(initialData, userPrefs);
+    }
+
+    /**
+     * Loads the archived meetings from {@code storage} into {@code model}.
+     */
+    private void initMeetingArchive(Storage storage, Model model) {
+        logger.info("Using meeting archive file : " + storage.getMeetingArchiveFilePath());
+
+        try {
+            model.getMeetingArchive().setMeetings(storage.readMeetingArchive());
+        } catch (DataLoadingException e) {
+            logger.warning("Meeting archive file at " + storage.getMeetingArchiveFilePath() + " could not be loaded."
+                    + " Archived meetings will not be listed until it is fixed.");
+        }
+    }
+
+    /**
+     * Archives the meetings that ended before the cutoff in {@code userPrefs}, unless archiving on startup is turned
+     * off. Must only be called once the whole address book is in the model.
+     */
+    private void archivePastMeetings(ReadOnlyUserPrefs userPrefs) {
+        if (userPrefs.getMeetingArchiveCutoffDays() <= 0 || model.isReadOnly()) {
+            return;
+        }
+        try {
+            logger.info(logic.archivePastMeetings().getFeedbackToUser());
+        } catch (CommandException e) {
+            logger.warning("Failed to archive past meetings : " + StringUtil.getDetails(e));
+        }
     }
 
     private void initLogging(Config config) {
@@ -172,11 +278,20 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting findingbrUdders " + MainApp.VERSION);
         ui.start(primaryStage);
+        // Runs once the window has been shown and the events queued while showing it, including its first frame,
+        // have been handled.
+        Platform.runLater(() -> logger.info("First frame shown " + (System.nanoTime() - initStartTime) / 1_000_000
+                + " ms after initializing started"));
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping findingbrUdders ] =============================");
+        try {
+            logic.flushSaves();
+        } catch (CommandException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
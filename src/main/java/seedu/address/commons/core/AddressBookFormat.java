@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats the address book data file can be saved in.
+ */
+public enum AddressBookFormat {
+    /** Human-readable json, which can be edited by hand. */
+    JSON,
+    /** Compact binary encoding, which is smaller and faster to load than json. */
+    BINARY,
+    /** Json split into segment files named by a manifest, so that saving rewrites only the segments that changed. */
+    SEGMENTED
+}
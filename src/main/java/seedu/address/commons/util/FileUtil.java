@@ -1,10 +1,15 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +17,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -65,6 +71,55 @@ public class FileUtil {
         }
     }
 
+    /**
+     * Returns the path of the temporary file that the new contents of {@code file} are written to before they
+     * replace it, which is in the same directory so that it can be moved over {@code file} in a single step.
+     */
+    public static Path getTemporaryFilePathFor(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMPORARY_FILE_SUFFIX);
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, replacing {@code target} if it exists. Where the file system allows,
+     * the move happens in a single step, so {@code target} is never missing or half written.
+     * The contents of {@code source} reach the disk before the move, and the move itself after it, so after a crash
+     * {@code target} holds either its old contents or all of the new ones.
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        forceToDisk(source);
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        Path parentDir = target.toAbsolutePath().getParent();
+        if (parentDir != null) {
+            forceDirectoryToDisk(parentDir);
+        }
+    }
+
+    /**
+     * Waits for the contents of {@code file} to reach the disk.
+     */
+    public static void forceToDisk(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Waits for the entries of {@code directory}, e.g. a file just moved into it, to reach the disk. This is only
+     * done where the file system allows directories to be opened, which is not the case on Windows, where the
+     * entries are written with the files.
+     */
+    private static void forceDirectoryToDisk(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // The move has still been made, and will reach the disk with the next write of the directory.
+        }
+    }
+
     /**
      * Assumes file exists
      */
@@ -75,9 +130,29 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The string is written to a temporary file next to it first, which then replaces the file with
+     * {@link #moveAtomically(Path, Path)}, so a crash while writing never leaves the file half written.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        Path temporaryFile = getTemporaryFilePathFor(file);
+        Files.write(temporaryFile, content.getBytes(CHARSET));
+        moveAtomically(temporaryFile, file);
+    }
+
+    /**
+     * Appends given string to the end of a file, and waits for it to reach the disk before returning.
+     * Will create the file along with its missing parent directories if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        createParentDirsOfFile(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
     }
 
 }
@@ -0,0 +1,146 @@
+package seedu.address.commons.util;
+
+/**
+ * Helper functions for validating the values in the model, which run on every command parsed and every value loaded.
+ *
+ * Each function scans the string once without allocating, and accepts exactly the strings that the validation regex
+ * it replaces fully matches, as {@code String#matches} would. Like those regexes, letters and digits are ASCII only.
+ */
+public class ValidationUtil {
+
+    private static final String EMAIL_SPECIAL_CHARACTERS = "+_.-";
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, as matched by {@code \p{Alnum}} or {@code [^\W_]}.
+     */
+    public static boolean isAlphanumeric(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code test} is made up of one or more ASCII letters and digits, as matched by
+     * {@code \p{Alnum}+}.
+     */
+    public static boolean isAlphanumeric(String test) {
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} starts with an ASCII letter or digit, followed by any number of ASCII letters,
+     * digits and spaces, as matched by {@code [\p{Alnum}][\p{Alnum} ]*}.
+     */
+    public static boolean isAlphanumericWithSpaces(String test) {
+        if (test.isEmpty() || !isAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is made up of at least {@code minLength} ASCII digits, as matched by
+     * {@code \d{minLength,}}.
+     */
+    public static boolean isDigits(String test, int minLength) {
+        if (test.length() < minLength) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} does not start with whitespace and has no line breaks, as matched by
+     * {@code [^\s].*}.
+     */
+    public static boolean isSingleLineNotStartingWithWhitespace(String test) {
+        if (test.isEmpty() || isWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Returns true if {@code c} is matched by {@code \s}. */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /** Returns true if {@code c} ends a line, so that it is not matched by {@code .}. */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * Returns true if {@code test} is an email address as described in
+     * {@link seedu.address.model.person.Email#MESSAGE_CONSTRAINTS}, and matched by
+     * {@link seedu.address.model.person.Email#VALIDATION_REGEX}.
+     *
+     * The local-part is made up of runs of letters and digits, separated by single special characters. The domain is
+     * made up of labels separated by periods, each made up of runs of letters and digits separated by single hyphens.
+     * The last label must be at least 2 characters long, which the regex expresses as being made up of at least two
+     * such labels, so it must have 2 letters or digits in a row.
+     */
+    public static boolean isEmailAddress(String test) {
+        int atIndex = test.indexOf('@');
+        return atIndex > 0 && isEmailLocalPart(test, atIndex) && isEmailDomain(test, atIndex + 1);
+    }
+
+    private static boolean isEmailLocalPart(String test, int end) {
+        boolean isAfterAlphanumeric = false;
+        for (int i = 0; i < end; i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && EMAIL_SPECIAL_CHARACTERS.indexOf(c) >= 0) {
+                isAfterAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric;
+    }
+
+    private static boolean isEmailDomain(String test, int start) {
+        boolean isAfterAlphanumeric = false;
+        boolean hasAlphanumericPair = false;
+        for (int i = start; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                hasAlphanumericPair |= isAfterAlphanumeric;
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && (c == '-' || c == '.')) {
+                if (c == '.') {
+                    // A new label starts, and only the last label must be at least 2 characters long.
+                    hasAlphanumericPair = false;
+                }
+                isAfterAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric && hasAlphanumericPair;
+    }
+}
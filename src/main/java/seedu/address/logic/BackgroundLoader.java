@@ -0,0 +1,124 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Loads the address book on a background thread, so that the window can be shown before a large data file has been
+ * read.
+ *
+ * Persons are added to the model in batches as they are read, through the given model executor, so the first of them
+ * are shown right away. Once the whole file has been read, the model's address book is replaced with the data read,
+ * which may differ from the persons added so far, e.g. because changes saved after them are applied last.
+ */
+public class BackgroundLoader {
+
+    /**
+     * Reads the whole address book, handing the persons read to a handler in batches as soon as they are read.
+     */
+    @FunctionalInterface
+    public interface AddressBookReader {
+        /**
+         * Returns the address book read, or the data to start with instead if it could not be read. Called on the
+         * background thread, which is also the thread that {@code loadedPersonsHandler} is called on.
+         */
+        ReadOnlyAddressBook read(Consumer<List<Person>> loadedPersonsHandler);
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundLoader.class);
+
+    private final Model model;
+    private final Executor modelExecutor;
+    private final AddressBookReader reader;
+    private final Runnable loadedHandler;
+    private final CompletableFuture<ReadOnlyAddressBook> loadedAddressBook = new CompletableFuture<>();
+    private final ReadOnlyBooleanWrapper loading = new ReadOnlyBooleanWrapper(true);
+
+    /**
+     * Creates a {@code BackgroundLoader}, which does not start loading until {@link #start()} is called.
+     *
+     * @param modelExecutor Runs tasks on the thread that owns the model.
+     * @param loadedHandler Called on the thread that owns the model once the model holds the whole address book.
+     */
+    public BackgroundLoader(Model model, Executor modelExecutor, AddressBookReader reader, Runnable loadedHandler) {
+        requireAllNonNull(model, modelExecutor, reader, loadedHandler);
+        this.model = model;
+        this.modelExecutor = modelExecutor;
+        this.reader = reader;
+        this.loadedHandler = loadedHandler;
+    }
+
+    /**
+     * Starts reading the address book on a background thread.
+     */
+    public void start() {
+        Thread thread = new Thread(this::load, "background-loader");
+        // Loading must not keep the app running once the window is closed.
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void load() {
+        long startTime = System.nanoTime();
+        ReadOnlyAddressBook addressBook;
+        try {
+            addressBook = reader.read(persons -> modelExecutor.execute(() -> addLoadedPersons(persons)));
+        } catch (RuntimeException e) {
+            logger.warning("Failed to load data in the background: " + StringUtil.getDetails(e)
+                    + " Will be starting with an empty findingbrUdders.");
+            addressBook = new AddressBook();
+        }
+        logger.info("Loaded " + addressBook.getPersonList().size() + " persons in the background in "
+                + (System.nanoTime() - startTime) / 1_000_000 + " ms");
+        loadedAddressBook.complete(addressBook);
+        modelExecutor.execute(this::awaitLoaded);
+    }
+
+    private void addLoadedPersons(List<Person> persons) {
+        if (isLoading()) {
+            model.addLoadedPersons(persons);
+        }
+    }
+
+    /**
+     * Returns true until the model holds the whole address book. Must be called on the thread that owns the model.
+     */
+    public boolean isLoading() {
+        return loading.get();
+    }
+
+    /**
+     * Returns a property that is true until the model holds the whole address book, which only changes on the thread
+     * that owns the model.
+     */
+    public ReadOnlyBooleanProperty loadingProperty() {
+        return loading.getReadOnlyProperty();
+    }
+
+    /**
+     * Waits for the whole address book to be read, unless it has already been read, and puts it in the model.
+     * Must be called on the thread that owns the model.
+     */
+    public void awaitLoaded() {
+        if (!isLoading()) {
+            return;
+        }
+        model.setAddressBook(loadedAddressBook.join());
+        loading.set(false);
+        loadedHandler.run();
+    }
+}
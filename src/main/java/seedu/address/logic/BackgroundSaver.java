@@ -0,0 +1,215 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.storage.PendingSave;
+
+/**
+ * Saves data on a background thread, so that commands do not wait for the disk.
+ *
+ * Saves are debounced: a save only starts once no save has been requested for {@code debounceMillis}, so a burst of
+ * commands is written together as one save. The snapshot to be saved is taken on the thread that owns the model,
+ * through the given model executor, and is then written on the background thread. Saves are written one at a time,
+ * in the order their snapshots were taken.
+ *
+ * A snapshot that could not be written is kept until it has been handed to the failure handler, which marks its data
+ * as unsaved again. Flushing hands over the failed snapshots that are still kept itself, instead of relying on the
+ * model executor to do so before the app exits, and then saves their data again.
+ *
+ * @param <T> Type of the snapshots taken, so that a failed save can be handled with the snapshot that failed.
+ */
+public class BackgroundSaver<T extends PendingSave> {
+
+    /** Time to wait after the last request for a save before saving. */
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 300;
+
+    /** Longest time to wait for the saves in progress when flushing. */
+    private static final long FLUSH_TIMEOUT_SECONDS = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundSaver.class);
+
+    private final ScheduledExecutorService saveExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "background-saver");
+        // Unflushed saves must not keep the app running once the window is closed.
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Executor modelExecutor;
+    private final long debounceMillis;
+    private final Supplier<T> snapshotTaker;
+    private final BiConsumer<T, IOException> failureHandler;
+    private final Queue<FailedSave<T>> failedSaves = new ConcurrentLinkedQueue<>();
+    private ScheduledFuture<?> scheduledSave;
+
+    /**
+     * Creates a {@code BackgroundSaver}.
+     *
+     * @param modelExecutor Runs tasks on the thread that owns the model.
+     * @param snapshotTaker Takes a snapshot of the data that has not been saved yet, or returns null if there is
+     *     nothing to save. Only called on the thread that owns the model.
+     * @param failureHandler Handles a snapshot that could not be saved. Only called on the thread that owns the model.
+     */
+    public BackgroundSaver(Executor modelExecutor, long debounceMillis, Supplier<T> snapshotTaker,
+                           BiConsumer<T, IOException> failureHandler) {
+        requireAllNonNull(modelExecutor, snapshotTaker, failureHandler);
+        assert debounceMillis >= 0;
+        this.modelExecutor = modelExecutor;
+        this.debounceMillis = debounceMillis;
+        this.snapshotTaker = snapshotTaker;
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Requests a save, which starts once no other save has been requested for the debounce time.
+     */
+    public synchronized void requestSave() {
+        if (saveExecutor.isShutdown()) {
+            return;
+        }
+        if (scheduledSave != null) {
+            scheduledSave.cancel(false);
+        }
+        scheduledSave = saveExecutor.schedule(() -> modelExecutor.execute(this::takeAndWriteSnapshot),
+                debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Takes a snapshot and hands it to the background thread to be written.
+     * A save requested while this snapshot was waiting to be taken is included in it, so that save later finds
+     * nothing to save.
+     */
+    private void takeAndWriteSnapshot() {
+        synchronized (this) {
+            if (saveExecutor.isShutdown()) {
+                return;
+            }
+        }
+        T snapshot = snapshotTaker.get();
+        if (snapshot != null) {
+            saveExecutor.execute(() -> write(snapshot));
+        }
+    }
+
+    private void write(T snapshot) {
+        if (!trySave(snapshot)) {
+            modelExecutor.execute(this::handleFailedSaves);
+        }
+    }
+
+    /**
+     * Saves {@code snapshot}, and keeps it as a failed save if it could not be saved, including when saving it
+     * threw an unexpected exception.
+     *
+     * @return true if {@code snapshot} was saved.
+     */
+    private boolean trySave(T snapshot) {
+        try {
+            snapshot.save();
+            return true;
+        } catch (IOException e) {
+            logger.warning("Failed to save data in the background: " + e);
+            failedSaves.add(new FailedSave<>(snapshot, e));
+        } catch (RuntimeException e) {
+            logger.warning("Unexpected error while saving data in the background: " + e);
+            failedSaves.add(new FailedSave<>(snapshot, new IOException(e)));
+        }
+        return false;
+    }
+
+    /**
+     * Hands every failed save that has not been handed over yet to the failure handler.
+     * Must be called on the thread that owns the model.
+     *
+     * @return The exception of the last failed save handed over, or null if there was none.
+     */
+    private IOException handleFailedSaves() {
+        IOException lastException = null;
+        FailedSave<T> failedSave;
+        while ((failedSave = failedSaves.poll()) != null) {
+            failureHandler.accept(failedSave.snapshot, failedSave.exception);
+            lastException = failedSave.exception;
+        }
+        return lastException;
+    }
+
+    /**
+     * Saves everything that has not been saved yet without waiting for the debounce time, waits for every save to
+     * finish, and stops the background thread. Saves requested afterwards are ignored.
+     * If any save failed, the data that was not saved is saved once more before returning.
+     * Must be called on the thread that owns the model.
+     *
+     * @throws IOException if the data that had not been saved yet could not be saved.
+     */
+    public void flush() throws IOException {
+        synchronized (this) {
+            if (saveExecutor.isShutdown()) {
+                return;
+            }
+            if (scheduledSave != null) {
+                scheduledSave.cancel(false);
+            }
+        }
+
+        // The snapshot then includes the data of saves that failed before, even if their handling has not run yet.
+        handleFailedSaves();
+        T snapshot = snapshotTaker.get();
+        Future<?> finalSave = saveExecutor.submit(() -> {
+            if (snapshot != null) {
+                trySave(snapshot);
+            }
+        });
+        saveExecutor.shutdown();
+        awaitFinalSave(finalSave);
+
+        if (handleFailedSaves() == null) {
+            return;
+        }
+        // The failure handler marked the data that was not saved as unsaved again, so this saves it once more.
+        T retry = snapshotTaker.get();
+        if (retry != null && !trySave(retry)) {
+            throw handleFailedSaves();
+        }
+    }
+
+    private static void awaitFinalSave(Future<?> finalSave) throws IOException {
+        try {
+            finalSave.get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IOException("Timed out waiting for data to be saved", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved", e);
+        }
+    }
+
+    /**
+     * A snapshot that could not be saved, with the exception that prevented it from being saved.
+     */
+    private static class FailedSave<T> {
+        private final T snapshot;
+        private final IOException exception;
+
+        FailedSave(T snapshot, IOException exception) {
+            this.snapshot = snapshot;
+            this.exception = exception;
+        }
+    }
+}
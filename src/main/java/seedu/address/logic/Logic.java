@@ -1,7 +1,9 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
@@ -24,6 +26,30 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Archives the meetings that ended before the cutoff in the user prefs, and returns the result.
+     * @throws CommandException If archiving is turned off in the user prefs, the data is read-only or the data could
+     *     not be saved.
+     */
+    CommandResult archivePastMeetings() throws CommandException;
+
+    /**
+     * Sets the handler that is given the error message of a save that failed in the background.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Saves any data that has not been saved yet, and waits for every save in progress to finish.
+     * No more data is saved in the background afterwards.
+     * @throws CommandException If the data could not be saved.
+     */
+    void flushSaves() throws CommandException;
+
+    /**
+     * Returns a property that is true while the address book is still being loaded in the background.
+     */
+    ReadOnlyBooleanProperty addressBookLoadingProperty();
+
     /**
      * Returns the AddressBook.
      *
@@ -3,19 +3,29 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.ArchiveCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.MeetingArchive;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Meeting;
 import seedu.address.model.person.Person;
+import seedu.address.storage.PendingSave;
 import seedu.address.storage.Storage;
 
 /**
@@ -32,14 +42,37 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private Executor modelExecutor;
+    private BackgroundSaver<DataSnapshot> backgroundSaver;
+    private BackgroundLoader backgroundLoader;
+    private Consumer<String> saveFailureHandler = message -> {};
+    private long savedModificationCount;
+    private int skippedSaveCount;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the data before
+     * each command returns.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedModificationCount = model.getModificationCount();
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the data on a
+     * background thread instead. Failed saves are reported to the handler set by
+     * {@link #setSaveFailureHandler(Consumer)}.
+     *
+     * @param modelExecutor Runs tasks on the thread that executes commands, which is the only thread that may touch
+     *     the model.
+     */
+    public LogicManager(Model model, Storage storage, Executor modelExecutor) {
+        this(model, storage);
+        this.modelExecutor = modelExecutor;
+        backgroundSaver = new BackgroundSaver<>(modelExecutor, BackgroundSaver.DEFAULT_DEBOUNCE_MILLIS,
+                this::takeSnapshot, this::handleBackgroundSaveFailure);
     }
 
     @Override
@@ -48,19 +81,155 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        if (model.isReadOnly() && command.modifiesData()) {
+            throw new CommandException(Messages.MESSAGE_READ_ONLY);
+        }
+        if (command.needsAllData()) {
+            awaitAddressBookLoaded();
+        }
         commandResult = command.execute(model);
+        saveDataIfModified();
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        return commandResult;
+    }
+
+    @Override
+    public CommandResult archivePastMeetings() throws CommandException {
+        logger.info("----------------[ARCHIVING PAST MEETINGS]");
+
+        if (model.isReadOnly()) {
+            throw new CommandException(Messages.MESSAGE_READ_ONLY);
         }
+        awaitAddressBookLoaded();
+        CommandResult commandResult = new ArchiveCommand().execute(model);
+        // The address book is only modified when meetings were archived, so nothing is saved on a launch with none,
+        // and a data file that failed to load is not overwritten with an empty address book.
+        saveDataIfModified();
 
         return commandResult;
     }
 
+    /**
+     * Loads the address book into the model on a background thread with {@code reader}, instead of it being loaded
+     * before this {@code LogicManager} was created. The persons read are shown as they are read, but nothing is saved
+     * until the whole address book is in the model, and commands that need all the data wait for it until then.
+     * Only for a {@code LogicManager} that saves in the background.
+     *
+     * @param loadedHandler Called once the whole address book is in the model.
+     */
+    public void loadAddressBookInBackground(BackgroundLoader.AddressBookReader reader, Runnable loadedHandler) {
+        assert modelExecutor != null : "The address book can only be loaded in the background with a model executor";
+        backgroundLoader = new BackgroundLoader(model, modelExecutor, reader, () -> {
+            // The model now holds exactly the data file, so it only needs saving once it is modified again.
+            savedModificationCount = model.getModificationCount();
+            loadedHandler.run();
+        });
+        backgroundLoader.start();
+    }
+
+    private void awaitAddressBookLoaded() {
+        if (isAddressBookLoading()) {
+            logger.info("Waiting for the address book to finish loading");
+            backgroundLoader.awaitLoaded();
+        }
+    }
+
+    private boolean isAddressBookLoading() {
+        return backgroundLoader != null && backgroundLoader.isLoading();
+    }
+
+    @Override
+    public ReadOnlyBooleanProperty addressBookLoadingProperty() {
+        if (backgroundLoader == null) {
+            return new ReadOnlyBooleanWrapper(false).getReadOnlyProperty();
+        }
+        return backgroundLoader.loadingProperty();
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public void flushSaves() throws CommandException {
+        if (backgroundSaver == null) {
+            return;
+        }
+        try {
+            backgroundSaver.flush();
+        } catch (IOException e) {
+            throw new CommandException(getSaveErrorMessage(e), e);
+        }
+    }
+
+    /**
+     * Saves the data if the address book has been modified since it was last saved, and otherwise only counts the
+     * save as skipped. When saving in the background, the save is only requested here.
+     */
+    private void saveDataIfModified() throws CommandException {
+        if (model.getModificationCount() == savedModificationCount) {
+            skippedSaveCount++;
+            logger.info("Data not modified, skipped saving (" + skippedSaveCount + " saves skipped so far)");
+            return;
+        }
+        if (backgroundSaver != null) {
+            backgroundSaver.requestSave();
+            return;
+        }
+
+        DataSnapshot snapshot = takeSnapshot();
+        try {
+            snapshot.save();
+        } catch (IOException e) {
+            restoreUnsavedData(snapshot);
+            throw new CommandException(getSaveErrorMessage(e), e);
+        }
+    }
+
+    /**
+     * Takes a snapshot of the data that has not been saved yet, and marks the data as saved.
+     * Returns null if nothing has been modified since the last snapshot.
+     */
+    private DataSnapshot takeSnapshot() {
+        // Only some of the persons in the data file are in the model while it is loading, so they must not be saved.
+        if (isAddressBookLoading() || model.getModificationCount() == savedModificationCount) {
+            return null;
+        }
+
+        MeetingArchive meetingArchive = model.getMeetingArchive();
+        AddressBookChanges unsavedChanges = model.getUnsavedChanges();
+        DataSnapshot snapshot = new DataSnapshot(meetingArchive.getUnsavedMeetings(),
+                storage.prepareAddressBookChanges(model.getAddressBook(), unsavedChanges));
+        meetingArchive.markSaved();
+        unsavedChanges.clear();
+        savedModificationCount = model.getModificationCount();
+        return snapshot;
+    }
+
+    private void handleBackgroundSaveFailure(DataSnapshot snapshot, IOException e) {
+        restoreUnsavedData(snapshot);
+        saveFailureHandler.accept(getSaveErrorMessage(e));
+    }
+
+    /**
+     * Marks the data in {@code snapshot}, which could not be saved, as unsaved again so that the next save retries it.
+     */
+    private void restoreUnsavedData(DataSnapshot snapshot) {
+        model.getMeetingArchive().markUnsaved(snapshot.archivedMeetings);
+        // Only the whole address book is sure to include the changes that were lost, so the next save is a full one.
+        model.getUnsavedChanges().recordAddressBookReplaced();
+        // Modification counts are never negative, so the next command saves even if it modifies nothing.
+        savedModificationCount = -1;
+    }
+
+    private static String getSaveErrorMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -90,4 +259,29 @@ public class LogicManager implements Logic {
     public Model getModel() {
         return model;
     }
+
+    /**
+     * A snapshot of the data that had not been saved when it was taken, which can be saved on any thread.
+     */
+    private class DataSnapshot implements PendingSave {
+        private final List<Meeting> archivedMeetings;
+        private final PendingSave addressBookSave;
+
+        DataSnapshot(List<Meeting> archivedMeetings, PendingSave addressBookSave) {
+            this.archivedMeetings = archivedMeetings;
+            this.addressBookSave = addressBookSave;
+        }
+
+        /**
+         * Appends the newly archived meetings to the meeting archive before saving the address book, so that they
+         * are never lost from both files at once.
+         */
+        @Override
+        public void save() throws IOException {
+            if (!archivedMeetings.isEmpty()) {
+                storage.appendToMeetingArchive(archivedMeetings);
+            }
+            addressBookSave.save();
+        }
+    }
 }
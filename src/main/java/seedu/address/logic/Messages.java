@@ -20,6 +20,10 @@ public class Messages {
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d Udders listed!\n"
             + "Please note: When using commands that involve indexes (such as edit or delete), refer to the indexes "
             + "displayed on the panel on the left.";
+    public static final String MESSAGE_UNREADABLE_PERSONS = "%1$d Udders could not be read from the corrupted "
+            + "data file, so they are listed as placeholders and could not be searched.";
+    public static final String MESSAGE_READ_ONLY = "The data file is open read-only, so only commands that do not "
+            + "change the data can be used.";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
 
@@ -66,6 +70,8 @@ public class Messages {
                 .append(meeting.getStartTimeFormatted())
                 .append("; End Time: ")
                 .append(meeting.getEndTimeFormatted());
+        meeting.getRecurrence().ifPresent(recurrence -> builder.append("; Repeats: ")
+                .append(recurrence.toDisplayString()));
         return builder.toString();
     }
 
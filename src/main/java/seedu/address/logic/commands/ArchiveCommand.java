@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Meeting;
+
+/**
+ * Moves the meetings that ended long ago out of the address book and into the meeting archive.
+ */
+public class ArchiveCommand extends Command {
+
+    public static final String COMMAND_WORD = "archive";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Moves the meetings that ended more than the given "
+            + "number of days ago into the meeting archive. "
+            + "If no number of days is given, the number in the preferences file is used.\n"
+            + "Parameters: [DAYS] (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 30";
+
+    public static final String MESSAGE_SUCCESS = "Archived %1$d meeting(s) that ended before %2$s.";
+
+    public static final String MESSAGE_NOTHING_TO_ARCHIVE = "There are no meetings that ended before %1$s to archive.";
+
+    public static final String MESSAGE_NO_CUTOFF = "Archiving is turned off in the preferences file. "
+            + "Please give the number of days instead.\n" + MESSAGE_USAGE;
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("h:mm a, d MMMM yyyy");
+
+    private final Integer days;
+
+    /**
+     * Creates an ArchiveCommand to archive the meetings that ended before the cutoff in the user prefs.
+     */
+    public ArchiveCommand() {
+        this.days = null;
+    }
+
+    /**
+     * Creates an ArchiveCommand to archive the meetings that ended more than {@code days} days ago.
+     */
+    public ArchiveCommand(int days) {
+        assert days > 0;
+        this.days = days;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        int cutoffDays = days != null ? days : model.getUserPrefs().getMeetingArchiveCutoffDays();
+        if (cutoffDays <= 0) {
+            throw new CommandException(MESSAGE_NO_CUTOFF);
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).minusDays(cutoffDays);
+        List<Meeting> archivedMeetings = model.archiveMeetingsEndedBefore(cutoff);
+
+        if (archivedMeetings.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NOTHING_TO_ARCHIVE, FORMATTER.format(cutoff)));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, archivedMeetings.size(), FORMATTER.format(cutoff)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ArchiveCommand)) {
+            return false;
+        }
+
+        ArchiveCommand otherArchiveCommand = (ArchiveCommand) other;
+        return Objects.equals(days, otherArchiveCommand.days);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("days", days)
+                .toString();
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Meeting;
+
+/**
+ * Lists the meetings in the meeting archive to the user, or only those on the given dates.
+ */
+public class ArchivedMeetingsCommand extends Command {
+
+    public static final String COMMAND_WORD = "archived";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all archived meetings, or only the archived "
+            + "meetings between two dates (inclusive).\n"
+            + "Parameters: [" + PREFIX_FROM + "FIRST_DATE " + PREFIX_TO + "LAST_DATE]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_FROM + "01-01-2024 "
+            + PREFIX_TO + "31-12-2024";
+
+    public static final String MESSAGE_SUCCESS = "Listed all archived meetings:";
+
+    public static final String MESSAGE_SUCCESS_BETWEEN = "Listed archived meetings from %1$s to %2$s:";
+
+    public static final String MESSAGE_NO_MEETINGS = "There are no archived meetings.";
+
+    public static final String MESSAGE_NO_MEETINGS_BETWEEN = "There are no archived meetings from %1$s to %2$s.";
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("d MMMM yyyy");
+
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Creates an ArchivedMeetingsCommand to list all archived meetings.
+     */
+    public ArchivedMeetingsCommand() {
+        this.from = null;
+        this.to = null;
+    }
+
+    /**
+     * Creates an ArchivedMeetingsCommand to list the archived meetings from the start of {@code from} to the end of
+     * {@code to}.
+     */
+    public ArchivedMeetingsCommand(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        assert !to.isBefore(from);
+
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Meeting> archivedMeetings = model.getMeetingArchive().getMeetings();
+
+        if (from == null) {
+            return archivedMeetings.isEmpty()
+                    ? new CommandResult(MESSAGE_NO_MEETINGS)
+                    : new CommandResult(MESSAGE_SUCCESS + "\n" + formatMeetings(archivedMeetings));
+        }
+
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        List<Meeting> occurrences = new ArrayList<>();
+        for (Meeting meeting : archivedMeetings) {
+            occurrences.addAll(meeting.getOccurrencesBetween(start, end));
+        }
+        occurrences.sort(Comparator.comparing(Meeting::getStartTime));
+
+        if (occurrences.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_MEETINGS_BETWEEN, FORMATTER.format(from),
+                    FORMATTER.format(to)));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS_BETWEEN, FORMATTER.format(from), FORMATTER.format(to))
+                + "\n" + formatMeetings(occurrences));
+    }
+
+    private static String formatMeetings(List<Meeting> meetings) {
+        StringBuilder meetingList = new StringBuilder();
+        for (int i = 0; i < meetings.size(); i++) {
+            meetingList.append(i + 1).append(". Meeting with ").append(meetings.get(i).getPersonToMeet().fullName)
+                    .append(" ").append(meetings.get(i).toString()).append("\n");
+        }
+        return meetingList.toString();
+    }
+
+    @Override
+    public boolean modifiesData() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ArchivedMeetingsCommand)) {
+            return false;
+        }
+
+        ArchivedMeetingsCommand otherArchivedMeetingsCommand = (ArchivedMeetingsCommand) other;
+        return Objects.equals(from, otherArchivedMeetingsCommand.from)
+                && Objects.equals(to, otherArchivedMeetingsCommand.to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .toString();
+    }
+}
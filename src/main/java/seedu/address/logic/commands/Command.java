@@ -17,4 +17,19 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command may modify the data, so that it cannot be run on a read-only model.
+     */
+    public boolean modifiesData() {
+        return true;
+    }
+
+    /**
+     * Returns true if the command needs the whole address book, so that it waits for the address book to finish
+     * loading when it is loaded in the background.
+     */
+    public boolean needsAllData() {
+        return true;
+    }
+
 }
@@ -98,7 +98,7 @@ public class EditCommand extends Command {
             Meeting meeting = meetings.getMeeting(0);
             model.deleteMeeting(personToEdit, meeting);
             model.addMeeting(editedPerson, new Meeting(editedPerson.getName(), meeting.getStartTime(),
-                    meeting.getEndTime(), meeting.getLocation()));
+                    meeting.getEndTime(), meeting.getLocation(), meeting.getRecurrence().orElse(null)));
         }
 
         model.setPerson(personToEdit, editedPerson);
@@ -4,12 +4,17 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKIP;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 // import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.CollectionUtil;
@@ -20,6 +25,7 @@ import seedu.address.model.Model;
 import seedu.address.model.person.Meeting;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Recurrence;
 import seedu.address.model.person.exceptions.MeetingNotFoundException;
 import seedu.address.model.person.exceptions.TimeClashException;
 
@@ -38,6 +44,7 @@ public class EditMeetingCommand extends Command {
             + "[" + PREFIX_LOCATION + "LOCATION] "
             + "[" + PREFIX_START_TIME + "START TIME] "
             + "[" + PREFIX_END_TIME + "END TIME] "
+            + "[" + PREFIX_SKIP + "SKIPPED_DATE]... "
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_NAME + "John Doe "
             + PREFIX_LOCATION + "Discussion Room 3 "
@@ -47,6 +54,7 @@ public class EditMeetingCommand extends Command {
     public static final String MESSAGE_EDIT_MEETING_SUCCESS = "Edited Meeting: %1$s";
     public static final String MESSAGE_MEETING_NOT_EDITED = "At least one field to edit must be provided.";
     public static final String MESSAGE_DUPLICATE_MEETING = "This meeting already exists.";
+    public static final String MESSAGE_NOT_RECURRING = "Only dates of a recurring meeting can be skipped.";
 
     private final Index index;
     private final EditMeetingDescriptor editMeetingDescriptor;
@@ -137,7 +145,15 @@ public class EditMeetingCommand extends Command {
             throw new CommandException(Meeting.MESSAGE_CONSTRAINTS_TIME);
         }
 
-        return new Meeting(updatedName, updatedStartTime, updatedEndTime, updatedLocation);
+        Recurrence updatedRecurrence = meetingToEdit.getRecurrence().orElse(null);
+        if (editMeetingDescriptor.getSkippedDates().isPresent()) {
+            if (updatedRecurrence == null) {
+                throw new CommandException(MESSAGE_NOT_RECURRING);
+            }
+            updatedRecurrence = updatedRecurrence.withSkippedDates(editMeetingDescriptor.getSkippedDates().get());
+        }
+
+        return new Meeting(updatedName, updatedStartTime, updatedEndTime, updatedLocation, updatedRecurrence);
     }
 
     @Override
@@ -173,6 +189,7 @@ public class EditMeetingCommand extends Command {
         private LocalDateTime startTime;
         private LocalDateTime endTime;
         private String location;
+        private Set<LocalDate> skippedDates;
 
         public EditMeetingDescriptor() {}
 
@@ -185,13 +202,14 @@ public class EditMeetingCommand extends Command {
             setStartTime(toCopy.startTime);
             setEndTime(toCopy.endTime);
             setLocation(toCopy.location);
+            setSkippedDates(toCopy.skippedDates);
         }
 
         /**
          * Returns true if at least one field is edited.
          */
         public boolean isAnyFieldEdited() {
-            return CollectionUtil.isAnyNonNull(name, startTime, endTime, location);
+            return CollectionUtil.isAnyNonNull(name, startTime, endTime, location, skippedDates);
         }
 
         public void setName(Name name) {
@@ -226,6 +244,23 @@ public class EditMeetingCommand extends Command {
             return Optional.ofNullable(location);
         }
 
+        /**
+         * Sets {@code skippedDates} to this object's {@code skippedDates}.
+         * A defensive copy of {@code skippedDates} is used internally.
+         */
+        public void setSkippedDates(Set<LocalDate> skippedDates) {
+            this.skippedDates = (skippedDates != null) ? new HashSet<>(skippedDates) : null;
+        }
+
+        /**
+         * Returns an unmodifiable set of dates to skip, which throws {@code UnsupportedOperationException}
+         * if modification is attempted.
+         * Returns {@code Optional#empty()} if {@code skippedDates} is null.
+         */
+        public Optional<Set<LocalDate>> getSkippedDates() {
+            return (skippedDates != null) ? Optional.of(Collections.unmodifiableSet(skippedDates)) : Optional.empty();
+        }
+
         @Override
         public boolean equals(Object other) {
             if (other == this) {
@@ -241,7 +276,8 @@ public class EditMeetingCommand extends Command {
             return Objects.equals(name, otherEditMeetingDescriptor.name)
                     && Objects.equals(startTime, otherEditMeetingDescriptor.startTime)
                     && Objects.equals(endTime, otherEditMeetingDescriptor.endTime)
-                    && Objects.equals(location, otherEditMeetingDescriptor.location);
+                    && Objects.equals(location, otherEditMeetingDescriptor.location)
+                    && Objects.equals(skippedDates, otherEditMeetingDescriptor.skippedDates);
         }
 
         @Override
@@ -251,6 +287,7 @@ public class EditMeetingCommand extends Command {
                     .add("startTime", startTime)
                     .add("endTime", endTime)
                     .add("location", location)
+                    .add("skippedDates", skippedDates)
                     .toString();
         }
     }
@@ -17,4 +17,13 @@ public class ExitCommand extends Command {
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, false, true);
     }
 
+    @Override
+    public boolean modifiesData() {
+        return false;
+    }
+
+    @Override
+    public boolean needsAllData() {
+        return false;
+    }
 }
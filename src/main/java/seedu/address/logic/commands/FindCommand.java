@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.PersonContainsKeywordsPredicate;
 
@@ -30,13 +31,23 @@ public class FindCommand extends Command {
     }
 
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         model.updateFilteredPersonList(predicate);
+        // Filtering reads every person, so every person that cannot be read has been found by now.
+        int unreadablePersonCount = model.getAddressBook().getUnreadablePersonCount();
+        if (unreadablePersonCount > 0) {
+            throw new CommandException(String.format(Messages.MESSAGE_UNREADABLE_PERSONS, unreadablePersonCount));
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    @Override
+    public boolean modifiesData() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
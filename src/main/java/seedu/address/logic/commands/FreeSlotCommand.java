@@ -0,0 +1,195 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Meeting;
+
+/**
+ * Finds the earliest gaps between meetings that are long enough for a new meeting.
+ */
+public class FreeSlotCommand extends Command {
+
+    public static final String COMMAND_WORD = "free";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the earliest free slots that are at least "
+            + "the given number of minutes long.\n"
+            + "Parameters: DURATION (in minutes, must be a positive integer) "
+            + "[" + PREFIX_START_TIME + "SEARCH_FROM] "
+            + "[" + PREFIX_END_TIME + "SEARCH_UNTIL] "
+            + "[" + PREFIX_FROM + "DAY_START] "
+            + "[" + PREFIX_TO + "DAY_END] "
+            + "[" + PREFIX_COUNT + "NUMBER_OF_SLOTS]\n"
+            + "Example: " + COMMAND_WORD + " 90 "
+            + PREFIX_START_TIME + "21-10-2024 00:00 "
+            + PREFIX_END_TIME + "27-10-2024 23:59 "
+            + PREFIX_FROM + "09:00 "
+            + PREFIX_TO + "18:00 "
+            + PREFIX_COUNT + "3";
+
+    public static final String MESSAGE_SUCCESS = "Free slots of at least %1$d minutes:\n%2$s";
+
+    public static final String MESSAGE_NO_FREE_SLOTS = "There is no free slot of at least %1$d minutes from %2$s "
+            + "to %3$s.";
+
+    /** Number of days searched when no end of the search is given. */
+    public static final int DEFAULT_SEARCH_DAYS = 7;
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("h:mm a, d MMMM yyyy");
+
+    private final Duration duration;
+    private final LocalDateTime searchStart;
+    private final LocalDateTime searchEnd;
+    private final LocalTime dayStart;
+    private final LocalTime dayEnd;
+    private final int count;
+
+    /**
+     * Creates a FreeSlotCommand to find the first {@code count} free slots of at least {@code duration}.
+     *
+     * @param searchStart Start of the search, or null to search from the time the command is executed.
+     * @param searchEnd End of the search, or null to search for {@link #DEFAULT_SEARCH_DAYS} days.
+     * @param dayStart Earliest time of day a free slot may start.
+     * @param dayEnd Latest time of day a free slot may end, where {@code LocalTime.MIDNIGHT} means the end of the day.
+     */
+    public FreeSlotCommand(Duration duration, LocalDateTime searchStart, LocalDateTime searchEnd,
+                           LocalTime dayStart, LocalTime dayEnd, int count) {
+        requireNonNull(duration);
+        requireNonNull(dayStart);
+        requireNonNull(dayEnd);
+        assert !duration.isNegative() && !duration.isZero();
+        assert count > 0;
+
+        this.duration = duration;
+        this.searchStart = searchStart;
+        this.searchEnd = searchEnd;
+        this.dayStart = dayStart;
+        this.dayEnd = dayEnd;
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        LocalDateTime start = searchStart != null
+                ? searchStart
+                : LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime end = searchEnd != null ? searchEnd : start.plusDays(DEFAULT_SEARCH_DAYS);
+
+        // Only the end may be given, so it can be before the time the command is executed.
+        List<LocalDateTime[]> freeSlots = end.isAfter(start)
+                ? findFreeSlots(model.getOccurrencesBetween(start, end).iterator(), start, end)
+                : List.of();
+
+        if (freeSlots.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_FREE_SLOTS, duration.toMinutes(),
+                    FORMATTER.format(start), FORMATTER.format(end)));
+        }
+
+        StringBuilder slotList = new StringBuilder();
+        for (int i = 0; i < freeSlots.size(); i++) {
+            slotList.append(i + 1).append(". From ").append(FORMATTER.format(freeSlots.get(i)[0]))
+                    .append(" to ").append(FORMATTER.format(freeSlots.get(i)[1])).append("\n");
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, duration.toMinutes(), slotList));
+    }
+
+    /**
+     * Sweeps through the daily windows between {@code start} and {@code end}, and returns the start and end of the
+     * first {@code count} gaps between meetings that are long enough.
+     *
+     * @param meetings The occurrences of meetings between {@code start} and {@code end}, in chronological order.
+     */
+    private List<LocalDateTime[]> findFreeSlots(Iterator<Meeting> meetings, LocalDateTime start,
+                                                LocalDateTime end) {
+        List<LocalDateTime[]> freeSlots = new ArrayList<>();
+        Meeting nextMeeting = meetings.hasNext() ? meetings.next() : null;
+        // Without daily limits, a single window covers the whole search so that gaps can span midnight.
+        boolean isAllDay = dayStart.equals(LocalTime.MIDNIGHT) && dayEnd.equals(LocalTime.MIDNIGHT);
+
+        for (LocalDate day = start.toLocalDate(); !day.isAfter(end.toLocalDate()) && freeSlots.size() < count;
+                day = day.plusDays(1)) {
+            LocalDateTime windowEnd = dayEnd.equals(LocalTime.MIDNIGHT)
+                    ? day.plusDays(1).atStartOfDay()
+                    : day.atTime(dayEnd);
+            windowEnd = isAllDay || windowEnd.isAfter(end) ? end : windowEnd;
+            LocalDateTime cursor = day.atTime(dayStart).isBefore(start) ? start : day.atTime(dayStart);
+
+            while (cursor.isBefore(windowEnd) && freeSlots.size() < count) {
+                while (nextMeeting != null && !nextMeeting.getEndTime().isAfter(cursor)) {
+                    nextMeeting = meetings.hasNext() ? meetings.next() : null;
+                }
+
+                boolean isWindowFree = nextMeeting == null || !nextMeeting.getStartTime().isBefore(windowEnd);
+                LocalDateTime gapEnd = isWindowFree ? windowEnd : nextMeeting.getStartTime();
+                if (gapEnd.isAfter(cursor) && Duration.between(cursor, gapEnd).compareTo(duration) >= 0) {
+                    freeSlots.add(new LocalDateTime[] {cursor, gapEnd});
+                }
+
+                if (isWindowFree) {
+                    break;
+                }
+                cursor = nextMeeting.getEndTime();
+            }
+
+            if (isAllDay) {
+                break;
+            }
+        }
+        return freeSlots;
+    }
+
+    @Override
+    public boolean modifiesData() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FreeSlotCommand)) {
+            return false;
+        }
+
+        FreeSlotCommand otherFreeSlotCommand = (FreeSlotCommand) other;
+        return duration.equals(otherFreeSlotCommand.duration)
+                && Objects.equals(searchStart, otherFreeSlotCommand.searchStart)
+                && Objects.equals(searchEnd, otherFreeSlotCommand.searchEnd)
+                && dayStart.equals(otherFreeSlotCommand.dayStart)
+                && dayEnd.equals(otherFreeSlotCommand.dayEnd)
+                && count == otherFreeSlotCommand.count;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("duration", duration)
+                .add("searchStart", searchStart)
+                .add("searchEnd", searchEnd)
+                .add("dayStart", dayStart)
+                .add("dayEnd", dayEnd)
+                .add("count", count)
+                .toString();
+    }
+}
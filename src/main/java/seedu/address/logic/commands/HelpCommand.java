@@ -18,4 +18,14 @@ public class HelpCommand extends Command {
     public CommandResult execute(Model model) {
         return new CommandResult(SHOWING_HELP_MESSAGE, true, false);
     }
+
+    @Override
+    public boolean modifiesData() {
+        return false;
+    }
+
+    @Override
+    public boolean needsAllData() {
+        return false;
+    }
 }
@@ -1,23 +1,70 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
 
 /**
- * Lists all meetings in the address book to the user.
+ * Lists all meetings in the address book to the user, or only those on the given dates.
  */
 public class MeetingsCommand extends Command {
 
     public static final String COMMAND_WORD = "meetings";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all meetings, or only the meetings between "
+            + "two dates (inclusive).\n"
+            + "Parameters: [" + PREFIX_FROM + "FIRST_DATE " + PREFIX_TO + "LAST_DATE]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_FROM + "10-10-2024 "
+            + PREFIX_TO + "10-10-2024";
+
     public static final String MESSAGE_SUCCESS = "Listed all meetings:";
 
+    public static final String MESSAGE_SUCCESS_BETWEEN = "Listed meetings from %1$s to %2$s:";
+
     public static final String MESSAGE_NO_MEETINGS = "You currently have no meetings with anUdder. Go touch grass!";
 
+    public static final String MESSAGE_NO_MEETINGS_BETWEEN = "You have no meetings with anUdder from %1$s to %2$s.";
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("d MMMM yyyy");
+
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Creates a MeetingsCommand to list all meetings.
+     */
+    public MeetingsCommand() {
+        this.from = null;
+        this.to = null;
+    }
+
+    /**
+     * Creates a MeetingsCommand to list the meetings from the start of {@code from} to the end of {@code to}.
+     */
+    public MeetingsCommand(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        assert !to.isBefore(from);
+
+        this.from = from;
+        this.to = to;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
+        if (from != null) {
+            return listMeetingsBetween(model);
+        }
+
         StringBuilder message = new StringBuilder();
         message.append(model.listMeetings());
 
@@ -30,4 +77,42 @@ public class MeetingsCommand extends Command {
         }
         return messageToReturn;
     }
+
+    private CommandResult listMeetingsBetween(Model model) {
+        String meetings = model.listMeetings(from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+        if (meetings.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_MEETINGS_BETWEEN, FORMATTER.format(from),
+                    FORMATTER.format(to)));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS_BETWEEN, FORMATTER.format(from), FORMATTER.format(to))
+                + "\n" + meetings);
+    }
+
+    @Override
+    public boolean modifiesData() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MeetingsCommand)) {
+            return false;
+        }
+
+        MeetingsCommand otherMeetingsCommand = (MeetingsCommand) other;
+        return Objects.equals(from, otherMeetingsCommand.from) && Objects.equals(to, otherMeetingsCommand.to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .toString();
+    }
 }
@@ -2,8 +2,11 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVERY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKIP;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -15,6 +18,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Meeting;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Recurrence;
 import seedu.address.model.person.exceptions.TimeClashException;
 
 /**
@@ -30,6 +34,7 @@ public class ScheduleCommand extends Command {
             + PREFIX_LOCATION + "LOCATION "
             + PREFIX_START_TIME + "START_TIME "
             + PREFIX_END_TIME + "END_TIME "
+            + "[" + PREFIX_EVERY + "DAYS " + PREFIX_UNTIL + "LAST_DATE [" + PREFIX_SKIP + "SKIPPED_DATE]...] "
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_LOCATION + "The Terrace "
             + PREFIX_START_TIME + "09-10-2024 09:00 "
@@ -46,6 +51,7 @@ public class ScheduleCommand extends Command {
     private final LocalDateTime startTime;
     private final LocalDateTime endTime;
     private final String location;
+    private final Recurrence recurrence;
 
     private Meeting toAdd;
 
@@ -54,6 +60,16 @@ public class ScheduleCommand extends Command {
      * @param index of the person in the filtered person list to schedule a meeting with
      */
     public ScheduleCommand(Index index, LocalDateTime startTime, LocalDateTime endTime, String location) {
+        this(index, startTime, endTime, location, null);
+    }
+
+    /**
+     * Creates a ScheduleCommand to add the specified {@code Meeting}, repeating according to {@code recurrence}
+     * @param index of the person in the filtered person list to schedule a meeting with
+     * @param recurrence rule for repeating the meeting, or null if the meeting takes place only once
+     */
+    public ScheduleCommand(Index index, LocalDateTime startTime, LocalDateTime endTime, String location,
+                           Recurrence recurrence) {
         requireNonNull(index);
         requireNonNull(startTime);
         requireNonNull(endTime);
@@ -63,6 +79,7 @@ public class ScheduleCommand extends Command {
         this.location = location;
         this.startTime = startTime;
         this.endTime = endTime;
+        this.recurrence = recurrence;
     }
 
     @Override
@@ -77,7 +94,7 @@ public class ScheduleCommand extends Command {
         Person personToScheduleMeetingWith = lastShownList.get(index.getZeroBased());
 
         try {
-            toAdd = new Meeting(personToScheduleMeetingWith.getName(), startTime, endTime, location);
+            toAdd = new Meeting(personToScheduleMeetingWith.getName(), startTime, endTime, location, recurrence);
         } catch (CommandException e) {
             throw new CommandException(String.format(MESSAGE_INVALID_ARGUMENT, e.getMessage()));
         }
@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+
+import seedu.address.logic.commands.ArchivedMeetingsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ArchivedMeetingsCommand object
+ */
+public class ArchivedMeetingsCommandParser implements Parser<ArchivedMeetingsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ArchivedMeetingsCommand
+     * and returns an ArchivedMeetingsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ArchivedMeetingsCommand parse(String args) throws ParseException {
+        if (args.isBlank()) {
+            return new ArchivedMeetingsCommand();
+        }
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+
+        if (!argMultimap.getPreamble().isEmpty() || argMultimap.getValue(PREFIX_FROM).isEmpty()
+                || argMultimap.getValue(PREFIX_TO).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ArchivedMeetingsCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FROM, PREFIX_TO);
+
+        LocalDate from = ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get());
+        LocalDate to = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get());
+        if (to.isBefore(from)) {
+            throw new ParseException(MeetingsCommandParser.MESSAGE_INVALID_DATE_RANGE);
+        }
+
+        return new ArchivedMeetingsCommand(from, to);
+    }
+
+}
@@ -16,4 +16,10 @@ public class CliSyntax {
     public static final Prefix PREFIX_LOCATION = new Prefix("l/");
     public static final Prefix PREFIX_START_TIME = new Prefix("st/");
     public static final Prefix PREFIX_END_TIME = new Prefix("et/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+    public static final Prefix PREFIX_COUNT = new Prefix("c/");
+    public static final Prefix PREFIX_EVERY = new Prefix("every/");
+    public static final Prefix PREFIX_UNTIL = new Prefix("until/");
+    public static final Prefix PREFIX_SKIP = new Prefix("skip/");
 }
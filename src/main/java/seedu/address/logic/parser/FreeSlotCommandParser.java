@@ -0,0 +1,73 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import seedu.address.logic.commands.FreeSlotCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FreeSlotCommand object
+ */
+public class FreeSlotCommandParser implements Parser<FreeSlotCommand> {
+
+    public static final String MESSAGE_INVALID_SEARCH_RANGE = "The end of the search must be after its start.";
+
+    public static final String MESSAGE_INVALID_DAY_RANGE = "The end of the day must be after the start of the day.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FreeSlotCommand
+     * and returns a FreeSlotCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FreeSlotCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_START_TIME, PREFIX_END_TIME,
+                PREFIX_FROM, PREFIX_TO, PREFIX_COUNT);
+
+        int minutes;
+        try {
+            minutes = ParserUtil.parsePositiveInteger(argMultimap.getPreamble());
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotCommand.MESSAGE_USAGE), pe);
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_START_TIME, PREFIX_END_TIME, PREFIX_FROM, PREFIX_TO,
+                PREFIX_COUNT);
+
+        LocalDateTime searchStart = argMultimap.getValue(PREFIX_START_TIME).isPresent()
+                ? ParserUtil.parseMeetingTime(argMultimap.getValue(PREFIX_START_TIME).get())
+                : null;
+        LocalDateTime searchEnd = argMultimap.getValue(PREFIX_END_TIME).isPresent()
+                ? ParserUtil.parseMeetingTime(argMultimap.getValue(PREFIX_END_TIME).get())
+                : null;
+        if (searchStart != null && searchEnd != null && !searchEnd.isAfter(searchStart)) {
+            throw new ParseException(MESSAGE_INVALID_SEARCH_RANGE);
+        }
+
+        LocalTime dayStart = argMultimap.getValue(PREFIX_FROM).isPresent()
+                ? ParserUtil.parseTimeOfDay(argMultimap.getValue(PREFIX_FROM).get())
+                : LocalTime.MIDNIGHT;
+        // 00:00 as the end of the day stands for midnight at the end of the day
+        LocalTime dayEnd = argMultimap.getValue(PREFIX_TO).isPresent()
+                ? ParserUtil.parseTimeOfDay(argMultimap.getValue(PREFIX_TO).get())
+                : LocalTime.MIDNIGHT;
+        if (!dayEnd.equals(LocalTime.MIDNIGHT) && !dayEnd.isAfter(dayStart)) {
+            throw new ParseException(MESSAGE_INVALID_DAY_RANGE);
+        }
+
+        int count = argMultimap.getValue(PREFIX_COUNT).isPresent()
+                ? ParserUtil.parsePositiveInteger(argMultimap.getValue(PREFIX_COUNT).get())
+                : 1;
+
+        return new FreeSlotCommand(Duration.ofMinutes(minutes), searchStart, searchEnd, dayStart, dayEnd, count);
+    }
+
+}
@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+
+import seedu.address.logic.commands.MeetingsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new MeetingsCommand object
+ */
+public class MeetingsCommandParser implements Parser<MeetingsCommand> {
+
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The last date must not be before the first date.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MeetingsCommand
+     * and returns a MeetingsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MeetingsCommand parse(String args) throws ParseException {
+        if (args.isBlank()) {
+            return new MeetingsCommand();
+        }
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+
+        if (!argMultimap.getPreamble().isEmpty() || argMultimap.getValue(PREFIX_FROM).isEmpty()
+                || argMultimap.getValue(PREFIX_TO).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MeetingsCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FROM, PREFIX_TO);
+
+        LocalDate from = ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get());
+        LocalDate to = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get());
+        if (to.isBefore(from)) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+
+        return new MeetingsCommand(from, to);
+    }
+
+}
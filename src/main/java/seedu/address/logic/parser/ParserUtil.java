@@ -2,7 +2,9 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Collection;
@@ -27,6 +29,7 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_POSITIVE_INTEGER = "Number is not a non-zero unsigned integer.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -190,4 +193,65 @@ public class ParserUtil {
             throw new ParseException("Invalid time format. Please use the correct format: 'dd-MM-yyyy HH:mm'");
         }
     }
+
+    /**
+     *  Parses {@code String time} into a {@code LocalTime} time of day.
+     *  Leading and trailing whitespaces will be trimmed.
+     *
+     *  @throws ParseException if {@code time} is invalid.
+     */
+    public static LocalTime parseTimeOfDay(String timeString) throws ParseException {
+        requireNonNull(timeString);
+        String trimmedTimeString = timeString.trim();
+        try {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm");
+            return LocalTime.parse(trimmedTimeString, formatter);
+        } catch (DateTimeParseException e) {
+            throw new ParseException("Invalid time of day format. Please use the correct format: 'HH:mm'");
+        }
+    }
+
+    /**
+     * Parses {@code String number} into a positive {@code int}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if {@code number} is not a non-zero unsigned integer.
+     */
+    public static int parsePositiveInteger(String number) throws ParseException {
+        requireNonNull(number);
+        String trimmedNumber = number.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedNumber)) {
+            throw new ParseException(MESSAGE_INVALID_POSITIVE_INTEGER);
+        }
+        return Integer.parseInt(trimmedNumber);
+    }
+
+    /**
+     * Parses {@code String date} into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if {@code date} is invalid.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        String trimmedDate = date.trim();
+        try {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+            return LocalDate.parse(trimmedDate, formatter);
+        } catch (DateTimeParseException e) {
+            throw new ParseException("Invalid date format. Please use the correct format: 'dd-MM-yyyy'");
+        }
+    }
+
+    /**
+     * Parses {@code Collection<String> dates} into a {@code Set<LocalDate>}.
+     */
+    public static Set<LocalDate> parseDates(Collection<String> dates) throws ParseException {
+        requireNonNull(dates);
+        final Set<LocalDate> dateSet = new HashSet<>();
+        for (String date : dates) {
+            dateSet.add(parseDate(date));
+        }
+        return dateSet;
+    }
 }
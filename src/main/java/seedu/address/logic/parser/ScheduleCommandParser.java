@@ -2,8 +2,11 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVERY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKIP;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -13,6 +16,7 @@ import java.util.stream.Stream;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.ScheduleCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Recurrence;
 
 /**
  * Parses input arguments and creates a new AddCommand object
@@ -26,7 +30,8 @@ public class ScheduleCommandParser implements Parser<ScheduleCommand> {
      */
     public ScheduleCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_LOCATION, PREFIX_START_TIME, PREFIX_END_TIME);
+                ArgumentTokenizer.tokenize(args, PREFIX_LOCATION, PREFIX_START_TIME, PREFIX_END_TIME, PREFIX_EVERY,
+                        PREFIX_UNTIL, PREFIX_SKIP);
 
         Index index;
 
@@ -40,7 +45,8 @@ public class ScheduleCommandParser implements Parser<ScheduleCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE));
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_LOCATION, PREFIX_START_TIME, PREFIX_END_TIME);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_LOCATION, PREFIX_START_TIME, PREFIX_END_TIME, PREFIX_EVERY,
+                PREFIX_UNTIL);
 
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm");
 
@@ -60,7 +66,27 @@ public class ScheduleCommandParser implements Parser<ScheduleCommand> {
             throw new ParseException("Invalid end time format. Please use the correct format: 'dd-MM-yyyy HH:mm'");
         }
 
-        return new ScheduleCommand(index, startTime, endTime, argMultimap.getValue(PREFIX_LOCATION).get());
+        return new ScheduleCommand(index, startTime, endTime, argMultimap.getValue(PREFIX_LOCATION).get(),
+                parseRecurrence(argMultimap));
+    }
+
+    /**
+     * Parses the recurrence rule in the given {@code ArgumentMultimap}, if any.
+     * @return the recurrence rule, or null if the meeting does not repeat
+     * @throws ParseException if the rule is only partly given or invalid
+     */
+    private static Recurrence parseRecurrence(ArgumentMultimap argMultimap) throws ParseException {
+        if (argMultimap.getValue(PREFIX_EVERY).isEmpty() && argMultimap.getValue(PREFIX_UNTIL).isEmpty()
+                && argMultimap.getAllValues(PREFIX_SKIP).isEmpty()) {
+            return null;
+        }
+        if (!arePrefixesPresent(argMultimap, PREFIX_EVERY, PREFIX_UNTIL)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE));
+        }
+
+        int intervalDays = ParserUtil.parsePositiveInteger(argMultimap.getValue(PREFIX_EVERY).get());
+        return new Recurrence(intervalDays, ParserUtil.parseDate(argMultimap.getValue(PREFIX_UNTIL).get()),
+                ParserUtil.parseDates(argMultimap.getAllValues(PREFIX_SKIP)));
     }
 
     /**
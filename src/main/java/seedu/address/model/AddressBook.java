@@ -2,13 +2,20 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.Meeting;
 import seedu.address.model.person.Meetings;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 
@@ -20,6 +27,8 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final Meetings meetings;
+    private final Map<Name, List<Meeting>> meetingsByPerson;
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -31,6 +40,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         persons = new UniquePersonList();
         meetings = new Meetings();
+        meetingsByPerson = new HashMap<>();
     }
 
     public AddressBook() {}
@@ -51,6 +61,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        modificationCount++;
     }
 
     /**
@@ -59,6 +70,25 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setMeetings(List<Meeting> meetings) {
         this.meetings.setInternalList(meetings);
+        indexMeetings();
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the contents of the meeting list with {@code meetings} without checking them for clashes.
+     * {@code meetings} must be known not to contain clashing meetings, e.g. because they were saved by the app.
+     */
+    public void setTrustedMeetings(List<Meeting> meetings) {
+        this.meetings.setAllTrusted(meetings);
+        indexMeetings();
+        modificationCount++;
+    }
+
+    private void indexMeetings() {
+        meetingsByPerson.clear();
+        for (Meeting m : this.meetings.getInternalList()) {
+            indexMeeting(m);
+        }
     }
 
     /**
@@ -87,6 +117,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        modificationCount++;
+    }
+
+    /**
+     * Adds {@code persons} to the address book at once.
+     * The persons must not already exist in the address book.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+        modificationCount++;
     }
 
     /**
@@ -98,6 +138,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        modificationCount++;
     }
 
     /**
@@ -107,6 +148,53 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void removePerson(Person key) {
         deletePersonMeetings(key);
         persons.remove(key);
+        modificationCount++;
+    }
+
+    /**
+     * Applies {@code changes} recorded on another copy of this address book, bringing this address book up to date.
+     * Changes that have already been applied are skipped, so applying the same changes twice is harmless.
+     *
+     * @throws CommandException if a changed person cannot replace the person with the same name.
+     */
+    public void applyChanges(AddressBookChanges changes) throws CommandException {
+        requireNonNull(changes);
+        for (Meeting m : changes.getRemovedMeetings()) {
+            if (hasMeeting(m)) {
+                deleteMeeting(m);
+            }
+        }
+        for (Name name : changes.getRemovedPersons()) {
+            persons.getPerson(name).ifPresent(this::removePerson);
+        }
+        for (Person p : changes.getChangedPersons()) {
+            Optional<Person> existingPerson = persons.getPerson(p.getName());
+            if (existingPerson.isPresent()) {
+                setPerson(existingPerson.get(), p);
+            } else {
+                addPerson(p);
+            }
+        }
+        for (Meeting m : changes.getAddedMeetings()) {
+            if (!hasMeeting(m)) {
+                addMeeting(m);
+            }
+        }
+    }
+
+    /**
+     * Returns the person in the address book with the given {@code name}, if any.
+     */
+    public Optional<Person> getPerson(Name name) {
+        return persons.getPerson(name);
+    }
+
+    /**
+     * Returns the number of times this address book has been modified, which changes after every modification.
+     * Comparing it before and after an operation tells whether the operation modified the address book.
+     */
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     //// util methods
@@ -125,10 +213,14 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     public void addMeeting(Meeting m) {
         meetings.addMeeting(m);
+        indexMeeting(m);
+        modificationCount++;
     }
 
     public void deleteMeeting(Meeting m) {
         meetings.deleteMeeting(m);
+        unindexMeeting(m);
+        modificationCount++;
     }
 
     public Meeting getMeeting(int index) {
@@ -139,15 +231,50 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Deletes all meetings that contains (@code p).
      */
     public void deletePersonMeetings(Person p) {
-        Meetings personMeetings = p.getMeetings();
-        for (int i = 0; i < personMeetings.getMeetingsCount(); i++) {
-            Meeting m = personMeetings.getMeeting(i);
-            for (int j = 0; j < meetings.getMeetingsCount(); j++) {
-                if (m.equals(meetings.getMeeting(j))) {
-                    Meeting toDelete = meetings.getMeeting(j);
-                    deleteMeeting(toDelete);
-                }
-            }
+        List<Meeting> personMeetings = meetingsByPerson.remove(p.getName());
+        if (personMeetings != null) {
+            meetings.deleteMeetings(personMeetings);
+            modificationCount++;
+        }
+    }
+
+    /**
+     * Removes every meeting that has ended by {@code cutoff} from the address book and from the persons they are
+     * with, and returns the removed meetings.
+     */
+    public List<Meeting> removeMeetingsEndedBefore(LocalDateTime cutoff) {
+        requireNonNull(cutoff);
+        List<Meeting> endedMeetings = meetings.getMeetingsEndedBefore(cutoff);
+        if (endedMeetings.isEmpty()) {
+            return endedMeetings;
+        }
+        meetings.deleteMeetings(endedMeetings);
+        modificationCount++;
+
+        Map<Name, List<Meeting>> endedMeetingsByPerson = new HashMap<>();
+        for (Meeting m : endedMeetings) {
+            unindexMeeting(m);
+            endedMeetingsByPerson.computeIfAbsent(m.getPersonToMeet(), name -> new ArrayList<>()).add(m);
+        }
+        endedMeetingsByPerson.forEach((name, personMeetings) -> persons.getPerson(name).ifPresent(person ->
+                person.getMeetings().deleteMeetings(personMeetings.stream()
+                        .filter(person.getMeetings()::contains).collect(Collectors.toList()))));
+        return endedMeetings;
+    }
+
+    /**
+     * Records {@code m} under the person it is with, so that the meetings of a person can be found without
+     * scanning every meeting.
+     */
+    private void indexMeeting(Meeting m) {
+        meetingsByPerson.computeIfAbsent(m.getPersonToMeet(), name -> new ArrayList<>()).add(m);
+    }
+
+    private void unindexMeeting(Meeting m) {
+        List<Meeting> personMeetings = meetingsByPerson.get(m.getPersonToMeet());
+        personMeetings.remove(m);
+        if (personMeetings.isEmpty()) {
+            meetingsByPerson.remove(m.getPersonToMeet());
         }
     }
 
@@ -167,12 +294,31 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setMeeting(Meeting target, Meeting editedMeeting) {
         requireNonNull(editedMeeting);
         meetings.setMeeting(target, editedMeeting);
+        unindexMeeting(target);
+        indexMeeting(editedMeeting);
+        modificationCount++;
+    }
+
+    /**
+     * Returns the occurrences of all meetings that overlap with the period from {@code from} to {@code to},
+     * in chronological order.
+     */
+    public List<Meeting> getOccurrencesBetween(LocalDateTime from, LocalDateTime to) {
+        return meetings.getOccurrencesBetween(from, to);
     }
 
     public String listMeetings() {
         return meetings.toString();
     }
 
+    /**
+     * Returns the occurrences of meetings that overlap with the period from {@code from} to {@code to}, formatted
+     * like {@link #listMeetings()}.
+     */
+    public String listMeetings(LocalDateTime from, LocalDateTime to) {
+        return meetings.toString(from, to);
+    }
+
     public int getMeetingSize() {
         return meetings.getMeetingsCount();
     }
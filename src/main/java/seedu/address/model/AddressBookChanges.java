@@ -0,0 +1,155 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Records the net changes made to an address book since it was last saved, so that only these changes have to be
+ * written instead of the whole address book.
+ *
+ * Persons are recorded by name with their latest state, and meetings that are added and then removed again cancel
+ * out. Applying the changes with {@link AddressBook#applyChanges(AddressBookChanges)} therefore brings a copy of the
+ * address book as it was last saved up to date, no matter the order in which the changes were made.
+ * Changes that cannot be recorded this way, such as clearing the address book, require the whole address book to be
+ * saved instead.
+ */
+public class AddressBookChanges {
+
+    private final Map<Name, Person> changedPersons = new LinkedHashMap<>();
+    private final Set<Name> removedPersons = new LinkedHashSet<>();
+    private final Set<Meeting> addedMeetings = new LinkedHashSet<>();
+    private final Set<Meeting> removedMeetings = new LinkedHashSet<>();
+    private boolean isFullSaveRequired;
+
+    /**
+     * Records that {@code person} was added, or that its details or meetings were changed.
+     */
+    public void recordPersonChanged(Person person) {
+        requireNonNull(person);
+        changedPersons.put(person.getName(), person);
+    }
+
+    /**
+     * Records that the person with the given {@code name} was removed, or was renamed away from it.
+     */
+    public void recordPersonRemoved(Name name) {
+        requireNonNull(name);
+        changedPersons.remove(name);
+        removedPersons.add(name);
+    }
+
+    /**
+     * Records that {@code meeting} was added to the list of all meetings.
+     */
+    public void recordMeetingAdded(Meeting meeting) {
+        requireNonNull(meeting);
+        if (!removedMeetings.remove(meeting)) {
+            addedMeetings.add(meeting);
+        }
+    }
+
+    /**
+     * Records that {@code meeting} was removed from the list of all meetings.
+     */
+    public void recordMeetingRemoved(Meeting meeting) {
+        requireNonNull(meeting);
+        if (!addedMeetings.remove(meeting)) {
+            removedMeetings.add(meeting);
+        }
+    }
+
+    /**
+     * Records that the address book was replaced as a whole, so that the changes can no longer be saved on their own.
+     */
+    public void recordAddressBookReplaced() {
+        isFullSaveRequired = true;
+    }
+
+    /**
+     * Returns the latest state of every person that was added or changed.
+     */
+    public Collection<Person> getChangedPersons() {
+        return Collections.unmodifiableCollection(changedPersons.values());
+    }
+
+    public Set<Name> getRemovedPersons() {
+        return Collections.unmodifiableSet(removedPersons);
+    }
+
+    public Set<Meeting> getAddedMeetings() {
+        return Collections.unmodifiableSet(addedMeetings);
+    }
+
+    public Set<Meeting> getRemovedMeetings() {
+        return Collections.unmodifiableSet(removedMeetings);
+    }
+
+    public boolean isFullSaveRequired() {
+        return isFullSaveRequired;
+    }
+
+    /**
+     * Returns true if nothing has changed since the address book was last saved.
+     */
+    public boolean isEmpty() {
+        return !isFullSaveRequired && changedPersons.isEmpty() && removedPersons.isEmpty()
+                && addedMeetings.isEmpty() && removedMeetings.isEmpty();
+    }
+
+    /**
+     * Forgets every recorded change, after the address book has been saved.
+     */
+    public void clear() {
+        changedPersons.clear();
+        removedPersons.clear();
+        addedMeetings.clear();
+        removedMeetings.clear();
+        isFullSaveRequired = false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookChanges)) {
+            return false;
+        }
+
+        AddressBookChanges otherChanges = (AddressBookChanges) other;
+        return changedPersons.equals(otherChanges.changedPersons)
+                && removedPersons.equals(otherChanges.removedPersons)
+                && addedMeetings.equals(otherChanges.addedMeetings)
+                && removedMeetings.equals(otherChanges.removedMeetings)
+                && isFullSaveRequired == otherChanges.isFullSaveRequired;
+    }
+
+    @Override
+    public int hashCode() {
+        return changedPersons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("changedPersons", changedPersons.keySet())
+                .add("removedPersons", removedPersons)
+                .add("addedMeetings", addedMeetings)
+                .add("removedMeetings", removedMeetings)
+                .add("isFullSaveRequired", isFullSaveRequired)
+                .toString();
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Meeting;
+
+/**
+ * Holds the meetings that have been moved out of the address book because they ended long ago.
+ * Archived meetings are kept in order of start time. Meetings archived since the archive was last saved are also
+ * tracked separately, so that saving only has to append them to the archive file instead of rewriting it.
+ */
+public class MeetingArchive {
+
+    private final List<Meeting> meetings = new ArrayList<>();
+    private final List<Meeting> unsavedMeetings = new ArrayList<>();
+
+    /**
+     * Replaces the archived meetings with {@code savedMeetings}, which are already in the archive file.
+     * A meeting may appear in the file more than once if saving the address book failed after it was archived, so
+     * only one copy of each meeting is kept.
+     */
+    public void setMeetings(List<Meeting> savedMeetings) {
+        requireAllNonNull(savedMeetings);
+        meetings.clear();
+        unsavedMeetings.clear();
+        meetings.addAll(new LinkedHashSet<>(savedMeetings));
+        meetings.sort(Comparator.comparing(Meeting::getStartTime));
+    }
+
+    /**
+     * Adds {@code archivedMeetings} to the archive. They stay unsaved until {@link #markSaved()} is called.
+     */
+    public void addMeetings(List<Meeting> archivedMeetings) {
+        requireAllNonNull(archivedMeetings);
+        meetings.addAll(archivedMeetings);
+        meetings.sort(Comparator.comparing(Meeting::getStartTime));
+        unsavedMeetings.addAll(archivedMeetings);
+    }
+
+    /**
+     * Returns an unmodifiable view of all archived meetings, in order of start time.
+     */
+    public List<Meeting> getMeetings() {
+        return Collections.unmodifiableList(meetings);
+    }
+
+    public boolean hasUnsavedMeetings() {
+        return !unsavedMeetings.isEmpty();
+    }
+
+    /**
+     * Returns the meetings archived since the archive was last saved, in the order they were archived.
+     */
+    public List<Meeting> getUnsavedMeetings() {
+        return new ArrayList<>(unsavedMeetings);
+    }
+
+    /**
+     * Records that every archived meeting has been saved to the archive file.
+     */
+    public void markSaved() {
+        unsavedMeetings.clear();
+    }
+
+    /**
+     * Records that {@code archivedMeetings}, which were marked as saved, could not be saved after all.
+     * They are saved again before any meeting archived after them.
+     */
+    public void markUnsaved(List<Meeting> archivedMeetings) {
+        requireAllNonNull(archivedMeetings);
+        unsavedMeetings.addAll(0, archivedMeetings);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MeetingArchive)) {
+            return false;
+        }
+
+        MeetingArchive otherMeetingArchive = (MeetingArchive) other;
+        return meetings.equals(otherMeetingArchive.meetings)
+                && unsavedMeetings.equals(otherMeetingArchive.unsavedMeetings);
+    }
+
+    @Override
+    public int hashCode() {
+        return meetings.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("meetings", meetings)
+                .add("unsavedMeetings", unsavedMeetings)
+                .toString();
+    }
+}
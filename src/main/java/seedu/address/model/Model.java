@@ -1,6 +1,8 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -72,6 +74,13 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds {@code persons}, which have just been read from the data file while it is still being loaded.
+     * They are not recorded as unsaved changes, as the data file already holds them.
+     * The persons must not already exist in the address book.
+     */
+    void addLoadedPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -131,7 +140,47 @@ public interface Model {
 
     int getMeetingSize();
 
+    /**
+     * Returns the occurrences of all meetings that overlap with the period from {@code from} to {@code to},
+     * in chronological order.
+     */
+    List<Meeting> getOccurrencesBetween(LocalDateTime from, LocalDateTime to);
+
     String listMeetings();
 
+    /**
+     * Returns the occurrences of meetings that overlap with the period from {@code from} to {@code to}, formatted
+     * like {@link #listMeetings()}.
+     */
+    String listMeetings(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Moves every meeting that has ended by {@code cutoff} from the address book to the meeting archive, and returns
+     * the meetings moved.
+     */
+    List<Meeting> archiveMeetingsEndedBefore(LocalDateTime cutoff);
+
+    /**
+     * Returns the archive of meetings that have been moved out of the address book.
+     */
+    MeetingArchive getMeetingArchive();
+
+    /**
+     * Returns the changes made to the address book since it was last saved.
+     */
+    AddressBookChanges getUnsavedChanges();
+
+    /**
+     * Returns the number of times the address book has been modified.
+     *
+     * @see AddressBook#getModificationCount()
+     */
+    long getModificationCount();
+
+    /**
+     * Returns true if the address book is only open for viewing, in which case commands that modify the data must
+     * not be run on this model.
+     */
+    boolean isReadOnly();
 
 }
@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -24,8 +26,12 @@ public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final AddressBook addressBook;
+    // The address book whose persons are shown, which is addressBook itself unless the model is read-only.
+    private final ReadOnlyAddressBook shownAddressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final MeetingArchive meetingArchive = new MeetingArchive();
+    private final AddressBookChanges unsavedChanges = new AddressBookChanges();
     private ModelClearObserver observer;
 
 
@@ -38,14 +44,38 @@ public class ModelManager implements Model {
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
+        shownAddressBook = this.addressBook;
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        // The initial data may not match the data file, e.g. when the file is missing, so it is saved in full first.
+        unsavedChanges.recordAddressBookReplaced();
     }
 
     public ModelManager() {
         this(new AddressBook(), new UserPrefs());
     }
 
+    private ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, AddressBook meetings) {
+        this.addressBook = meetings;
+        shownAddressBook = addressBook;
+        this.userPrefs = new UserPrefs(userPrefs);
+        filteredPersons = new FilteredList<>(addressBook.getPersonList());
+    }
+
+    /**
+     * Returns a read-only ModelManager that shows the persons in {@code addressBook} without copying them, so that
+     * each person is only read from {@code addressBook} when it is shown or filtered. Only the meetings are copied.
+     */
+    public static ModelManager readOnly(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        requireAllNonNull(addressBook, userPrefs);
+
+        logger.fine("Initializing read-only with address book: " + addressBook + " and user prefs " + userPrefs);
+
+        AddressBook meetings = new AddressBook();
+        meetings.setMeetings(addressBook.getMeetingList());
+        return new ModelManager(addressBook, userPrefs, meetings);
+    }
+
     //=========== UserPrefs ==================================================================================
 
     @Override
@@ -86,12 +116,13 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        unsavedChanges.recordAddressBookReplaced();
         notifyUddersListCleared();
     }
 
     @Override
     public ReadOnlyAddressBook getAddressBook() {
-        return addressBook;
+        return shownAddressBook;
     }
 
     @Override
@@ -103,19 +134,31 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        target.getMeetings().getInternalList().forEach(unsavedChanges::recordMeetingRemoved);
+        unsavedChanges.recordPersonRemoved(target.getName());
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        unsavedChanges.recordPersonChanged(person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addLoadedPersons(List<Person> persons) {
+        addressBook.addPersons(persons);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) throws CommandException {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        if (!target.isSamePerson(editedPerson)) {
+            unsavedChanges.recordPersonRemoved(target.getName());
+        }
+        unsavedChanges.recordPersonChanged(editedPerson);
     }
 
     @Override
@@ -123,6 +166,8 @@ public class ModelManager implements Model {
         // Change in main meeting list first to check for any time clash exception in all meetings
         addressBook.addMeeting(meeting);
         target.getMeetings().addMeeting(meeting);
+        unsavedChanges.recordMeetingAdded(meeting);
+        unsavedChanges.recordPersonChanged(target);
     }
 
     @Override
@@ -131,6 +176,8 @@ public class ModelManager implements Model {
         target.getMeetings().deleteMeeting(meeting);
         // Delete meeting for user
         addressBook.deleteMeeting(meeting);
+        unsavedChanges.recordMeetingRemoved(meeting);
+        unsavedChanges.recordPersonChanged(target);
     }
 
     @Override
@@ -150,6 +197,9 @@ public class ModelManager implements Model {
         requireAllNonNull(person, target, editedMeeting);
         addressBook.setMeeting(target, editedMeeting);
         person.getMeetings().setMeeting(target, editedMeeting);
+        unsavedChanges.recordMeetingRemoved(target);
+        unsavedChanges.recordMeetingAdded(editedMeeting);
+        unsavedChanges.recordPersonChanged(person);
     }
 
     @Override
@@ -157,11 +207,59 @@ public class ModelManager implements Model {
         return addressBook.listMeetings();
     }
 
+    @Override
+    public String listMeetings(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return addressBook.listMeetings(from, to);
+    }
+
     @Override
     public int getMeetingSize() {
         return addressBook.getMeetingSize();
     }
 
+    @Override
+    public List<Meeting> getOccurrencesBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return addressBook.getOccurrencesBetween(from, to);
+    }
+
+    //=========== Meeting Archive ============================================================================
+
+    @Override
+    public List<Meeting> archiveMeetingsEndedBefore(LocalDateTime cutoff) {
+        requireNonNull(cutoff);
+        List<Meeting> endedMeetings = addressBook.removeMeetingsEndedBefore(cutoff);
+        meetingArchive.addMeetings(endedMeetings);
+        for (Meeting meeting : endedMeetings) {
+            unsavedChanges.recordMeetingRemoved(meeting);
+            addressBook.getPerson(meeting.getPersonToMeet()).ifPresent(unsavedChanges::recordPersonChanged);
+        }
+        return endedMeetings;
+    }
+
+    @Override
+    public MeetingArchive getMeetingArchive() {
+        return meetingArchive;
+    }
+
+    //=========== Unsaved Changes ============================================================================
+
+    @Override
+    public AddressBookChanges getUnsavedChanges() {
+        return unsavedChanges;
+    }
+
+    @Override
+    public long getModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return shownAddressBook != addressBook;
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -190,7 +288,10 @@ public class ModelManager implements Model {
 
     @Override
     public void notifyUddersListCleared() {
-        observer.uddersCleared();
+        // The address book may be replaced before the UI has registered, e.g. when it is loaded in the background.
+        if (observer != null) {
+            observer.uddersCleared();
+        }
     }
 
     //================================================================================================================
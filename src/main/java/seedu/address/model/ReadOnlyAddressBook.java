@@ -16,4 +16,12 @@ public interface ReadOnlyAddressBook {
     ObservableList<Person> getPersonList();
 
     ObservableList<Meeting> getMeetingList();
+
+    /**
+     * Returns the number of persons that could not be read from the data file so far, which are listed as
+     * placeholders instead. Only an address book that reads its persons when they are asked for can have any.
+     */
+    default int getUnreadablePersonCount() {
+        return 0;
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,26 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the format the address book is saved in. Data files in either format can be read.
+     */
+    AddressBookFormat getAddressBookFormat();
+
+    /**
+     * Returns true if the address book is only opened for viewing, in which case it is never modified or saved.
+     */
+    boolean isAddressBookReadOnly();
+
+    /**
+     * Returns true if the address book is loaded after the window is shown, showing the persons as they are read.
+     * Has no effect if the address book is read-only.
+     */
+    boolean isAddressBookLoadedInBackground();
+
+    /**
+     * Returns the number of days after which a meeting that has ended is moved to the meeting archive on startup,
+     * where a number that is not positive turns off archiving on startup.
+     */
+    int getMeetingArchiveCutoffDays();
+
 }
@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -15,6 +16,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "findingbrUdders.json");
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
+    private boolean addressBookReadOnly = false;
+    private boolean addressBookLoadedInBackground = false;
+    private int meetingArchiveCutoffDays = 30;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +41,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
+        setAddressBookReadOnly(newUserPrefs.isAddressBookReadOnly());
+        setAddressBookLoadedInBackground(newUserPrefs.isAddressBookLoadedInBackground());
+        setMeetingArchiveCutoffDays(newUserPrefs.getMeetingArchiveCutoffDays());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +65,39 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public boolean isAddressBookReadOnly() {
+        return addressBookReadOnly;
+    }
+
+    public void setAddressBookReadOnly(boolean addressBookReadOnly) {
+        this.addressBookReadOnly = addressBookReadOnly;
+    }
+
+    public boolean isAddressBookLoadedInBackground() {
+        return addressBookLoadedInBackground;
+    }
+
+    public void setAddressBookLoadedInBackground(boolean addressBookLoadedInBackground) {
+        this.addressBookLoadedInBackground = addressBookLoadedInBackground;
+    }
+
+    public int getMeetingArchiveCutoffDays() {
+        return meetingArchiveCutoffDays;
+    }
+
+    public void setMeetingArchiveCutoffDays(int meetingArchiveCutoffDays) {
+        this.meetingArchiveCutoffDays = meetingArchiveCutoffDays;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +111,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookFormat == otherUserPrefs.addressBookFormat
+                && addressBookReadOnly == otherUserPrefs.addressBookReadOnly
+                && addressBookLoadedInBackground == otherUserPrefs.addressBookLoadedInBackground
+                && meetingArchiveCutoffDays == otherUserPrefs.meetingArchiveCutoffDays;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFormat, addressBookReadOnly,
+                addressBookLoadedInBackground, meetingArchiveCutoffDays);
     }
 
     @Override
@@ -82,6 +129,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFormat);
+        sb.append("\nLocal data file read-only : " + addressBookReadOnly);
+        sb.append("\nLocal data file loaded in background : " + addressBookLoadedInBackground);
+        sb.append("\nMeetings archived after : " + meetingArchiveCutoffDays + " days");
         return sb.toString();
     }
 
@@ -29,16 +29,29 @@ public class Major {
      * @param major a valid major.
      */
     public Major(String major) {
+        this(major, true);
+    }
+
+    private Major(String major, boolean isValidating) {
         requireNonNull(major);
-        checkArgument(isValidMajor(major), MESSAGE_CONSTRAINTS);
+        if (isValidating) {
+            checkArgument(isValidMajor(major), MESSAGE_CONSTRAINTS);
+        }
         this.major = major;
     }
 
+    /** Returns the {@code Major} {@code major} without looking it up in the known majors again. */
+    public static Major ofTrusted(String major) {
+        return new Major(major, false);
+    }
+
     /**
      * Returns if a given major string is a valid role.
      */
     public static boolean isValidMajor(String test) {
-        return test.matches(VALIDATION_REGEX) && VALID_MAJORS.contains(test);
+        requireNonNull(test);
+        // Every valid major matches VALIDATION_REGEX, so only the list needs to be checked.
+        return VALID_MAJORS.contains(test);
     }
 
     @Override
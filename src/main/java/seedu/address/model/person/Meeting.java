@@ -2,12 +2,21 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
+import seedu.address.commons.util.ValidationUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
 /**
  * Represents a Person's meetings in the Meetings field.
+ * A meeting with a {@code Recurrence} stands for a whole series of occurrences, of which this meeting's start and
+ * end time are the first. The occurrences are never stored; they are computed from the rule when needed.
  * Guarantees: immutable
  */
 public class Meeting {
@@ -16,6 +25,9 @@ public class Meeting {
 
     public static final String MESSAGE_CONSTRAINTS_TIME = "Start time must be before end time";
 
+    public static final String MESSAGE_CONSTRAINTS_RECURRENCE = "A recurring meeting must end before its next "
+            + "occurrence starts, and repeat until a date on or after its first occurrence";
+
     /*
      * The first character of the location must not be a whitespace,
      * otherwise " " (a blank string) becomes a valid input.
@@ -26,6 +38,7 @@ public class Meeting {
     public final LocalDateTime startTime;
     public final LocalDateTime endTime;
     public final Name personToMeet;
+    private final Recurrence recurrence;
     private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("h:mm a, d MMMM yyyy");
 
     /**
@@ -39,6 +52,21 @@ public class Meeting {
      */
     public Meeting(Name person, LocalDateTime startTime, LocalDateTime endTime,
                    String location) throws CommandException {
+        this(person, startTime, endTime, location, null);
+    }
+
+    /**
+     * Constructs a {@code Meeting} that repeats according to {@code recurrence}.
+     *
+     * @param person A valid name of a person to meet.
+     * @param startTime A valid starting time of the first occurrence.
+     * @param endTime A valid ending time of the first occurrence.
+     * @param location A valid location (a non-empty string).
+     * @param recurrence A valid rule for repeating the meeting, or null if the meeting takes place only once.
+     * @throws CommandException if startTime is after endTime, location is invalid or recurrence is invalid.
+     */
+    public Meeting(Name person, LocalDateTime startTime, LocalDateTime endTime,
+                   String location, Recurrence recurrence) throws CommandException {
         requireNonNull(person);
         requireNonNull(location);
         requireNonNull(startTime);
@@ -57,6 +85,23 @@ public class Meeting {
 
         this.location = location;
         this.personToMeet = person;
+
+        if (recurrence != null && !isValidRecurrence(startTime, endTime, recurrence)) {
+            throw new CommandException(MESSAGE_CONSTRAINTS_RECURRENCE);
+        }
+
+        this.recurrence = recurrence;
+    }
+
+    /**
+     * Constructs the single occurrence of {@code series} that starts at {@code startTime}.
+     */
+    private Meeting(Meeting series, LocalDateTime startTime) {
+        this.personToMeet = series.personToMeet;
+        this.location = series.location;
+        this.startTime = startTime;
+        this.endTime = startTime.plus(series.getDuration());
+        this.recurrence = null;
     }
 
     /**
@@ -70,6 +115,15 @@ public class Meeting {
         return start.isBefore(end);
     }
 
+    /**
+     * Checks if a meeting from {@code start} to {@code end} can repeat according to {@code recurrence}, which is when
+     * each occurrence ends before the next one starts and the rule does not end before the first occurrence.
+     */
+    public static boolean isValidRecurrence(LocalDateTime start, LocalDateTime end, Recurrence recurrence) {
+        return !end.isAfter(start.plusDays(recurrence.intervalDays))
+                && !recurrence.until.isBefore(start.toLocalDate());
+    }
+
     /**
      * Returns true if a given string is a valid location.
      *
@@ -77,26 +131,142 @@ public class Meeting {
      * @return True if the location matches the VALIDATION_REGEX, otherwise false.
      */
     public static boolean isValidLocation(String location) {
-        return location.matches(VALIDATION_REGEX);
+        return ValidationUtil.isSingleLineNotStartingWithWhitespace(location);
     }
 
     /**
      * Checks if the current meeting overlaps with another meeting.
+     * For recurring meetings, this checks whether any occurrence of one overlaps with any occurrence of the other,
+     * without listing the occurrences.
      *
      * @param other The other meeting to check for overlap.
      * @return True if there is an overlap, otherwise false.
      */
     public boolean isOverlap(Meeting other) {
-        boolean isStartBeforeOtherEnd = this.startTime.isBefore(other.endTime);
-        boolean isEndAfterOtherStart = this.endTime.isAfter(other.startTime);
+        if (!isRecurring() && other.isRecurring()) {
+            return other.isOverlap(this);
+        }
+        if (!other.isRecurring()) {
+            return isOverlapWithin(other.startTime, other.endTime);
+        }
+        return isOverlapWithSeries(other);
+    }
+
+    /**
+     * Returns true if any occurrence of this meeting overlaps with the period from {@code from} to {@code to}.
+     * Only the occurrences that fall within the period are looked at, and these are found by dividing by the interval.
+     */
+    private boolean isOverlapWithin(LocalDateTime from, LocalDateTime to) {
+        if (!isRecurring()) {
+            // If both conditions are true, meetings overlap
+            return startTime.isBefore(to) && endTime.isAfter(from);
+        }
 
-        // If both conditions are true, meetings overlap
-        return isStartBeforeOtherEnd && isEndAfterOtherStart;
+        long last = getLastOccurrenceStartingBefore(to);
+        for (long i = getFirstOccurrenceEndingAfter(from); i <= last; i++) {
+            if (!recurrence.isSkipped(getOccurrenceStart(i).toLocalDate())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if any occurrence of this recurring meeting overlaps with any occurrence of {@code other}.
+     */
+    private boolean isOverlapWithSeries(Meeting other) {
+        assert isRecurring() && other.isRecurring();
+
+        // Occurrence i of this meeting overlaps with occurrence j of the other meeting if and only if
+        // -otherDuration < offset + j * otherInterval - i * interval < duration, where offset is how much later the
+        // other meeting starts. The middle term can only be offset plus a multiple of the gcd of the intervals, so if
+        // the smallest such value above the lower bound is not below the upper bound, no occurrences ever overlap.
+        long gcd = gcd(getIntervalMinutes(), other.getIntervalMinutes());
+        long offset = ChronoUnit.MINUTES.between(startTime, other.startTime);
+        long lowerBound = 1 - other.getDuration().toMinutes();
+        if (lowerBound + Math.floorMod(offset - lowerBound, gcd) >= getDuration().toMinutes()) {
+            return false;
+        }
+
+        // Otherwise, check each occurrence of the sparser meeting while both meetings are running.
+        Meeting sparser = recurrence.intervalDays >= other.recurrence.intervalDays ? this : other;
+        Meeting denser = sparser == this ? other : this;
+        Duration duration = sparser.getDuration();
+        long last = sparser.getLastOccurrenceStartingBefore(denser.getLastEndTime());
+        for (long i = sparser.getFirstOccurrenceEndingAfter(denser.startTime); i <= last; i++) {
+            LocalDateTime occurrenceStart = sparser.getOccurrenceStart(i);
+            if (!sparser.recurrence.isSkipped(occurrenceStart.toLocalDate())
+                    && denser.isOverlapWithin(occurrenceStart, occurrenceStart.plus(duration))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the occurrences of this meeting that overlap with the period from {@code from} to {@code to},
+     * in chronological order. A meeting that does not recur is its own only occurrence.
+     */
+    public List<Meeting> getOccurrencesBetween(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        List<Meeting> occurrences = new ArrayList<>();
+        if (!isRecurring()) {
+            if (isOverlapWithin(from, to)) {
+                occurrences.add(this);
+            }
+            return occurrences;
+        }
+
+        long last = getLastOccurrenceStartingBefore(to);
+        for (long i = getFirstOccurrenceEndingAfter(from); i <= last; i++) {
+            LocalDateTime occurrenceStart = getOccurrenceStart(i);
+            if (!recurrence.isSkipped(occurrenceStart.toLocalDate())) {
+                occurrences.add(new Meeting(this, occurrenceStart));
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the number of the first occurrence that ends after {@code time}, counting from 0.
+     * Meeting times are in whole minutes, so the occurrences can be counted in minutes.
+     */
+    private long getFirstOccurrenceEndingAfter(LocalDateTime time) {
+        long minutesToTime = ChronoUnit.MINUTES.between(startTime, time);
+        return Math.max(0, Math.floorDiv(minutesToTime - getDuration().toMinutes(), getIntervalMinutes()) + 1);
+    }
+
+    /**
+     * Returns the number of the last occurrence that starts before {@code time}, counting from 0.
+     */
+    private long getLastOccurrenceStartingBefore(LocalDateTime time) {
+        long minutesToTime = ChronoUnit.MINUTES.between(startTime, time);
+        return Math.min(getLastOccurrence(), Math.floorDiv(minutesToTime - 1, getIntervalMinutes()));
+    }
+
+    private long getLastOccurrence() {
+        return isRecurring()
+                ? ChronoUnit.DAYS.between(startTime.toLocalDate(), recurrence.until) / recurrence.intervalDays
+                : 0;
+    }
+
+    private LocalDateTime getOccurrenceStart(long occurrence) {
+        return isRecurring() ? startTime.plusDays(occurrence * recurrence.intervalDays) : startTime;
+    }
+
+    private long getIntervalMinutes() {
+        return Duration.ofDays(recurrence.intervalDays).toMinutes();
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
     }
 
     @Override
     public String toString() {
-        return "from " + formatter.format(startTime) + " to " + formatter.format(endTime) + " at " + location;
+        String meeting = "from " + formatter.format(startTime) + " to " + formatter.format(endTime) + " at " + location;
+        return isRecurring() ? meeting + ", " + recurrence.toDisplayString() : meeting;
     }
 
     @Override
@@ -112,12 +282,14 @@ public class Meeting {
 
         Meeting otherMeeting = (Meeting) other;
         return personToMeet.equals(otherMeeting.personToMeet) && location.equals(otherMeeting.location)
-                && startTime.equals(otherMeeting.startTime) && endTime.equals(otherMeeting.endTime);
+                && startTime.equals(otherMeeting.startTime) && endTime.equals(otherMeeting.endTime)
+                && Objects.equals(recurrence, otherMeeting.recurrence);
     }
 
     @Override
     public int hashCode() {
-        return location.hashCode();
+        // use this method for custom fields hashing instead of implementing your own
+        return Objects.hash(personToMeet, startTime, endTime, location, recurrence);
     }
 
     public String getLocation() {
@@ -143,4 +315,27 @@ public class Meeting {
     public Name getPersonToMeet() {
         return personToMeet;
     }
+
+    /**
+     * Returns the length of each occurrence of the meeting.
+     */
+    public Duration getDuration() {
+        return Duration.between(startTime, endTime);
+    }
+
+    /**
+     * Returns the end time of the last occurrence of the meeting, which is the end time for meetings that do not
+     * recur.
+     */
+    public LocalDateTime getLastEndTime() {
+        return getOccurrenceStart(getLastOccurrence()).plus(getDuration());
+    }
+
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    public Optional<Recurrence> getRecurrence() {
+        return Optional.ofNullable(recurrence);
+    }
 }
@@ -4,52 +4,159 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
 
-import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicateMeetingException;
 import seedu.address.model.person.exceptions.MeetingNotFoundException;
 import seedu.address.model.person.exceptions.TimeClashException;
 
 /**
- * A list of meetings that ensures no    overlaps in timings of all the meetings and does not allow nulls.
+ * A list of meetings that ensures no overlaps in timings of all the meetings and does not allow nulls.
  * A meeting clashes if the start time and end time overlaps with any meetings in the list.
  * A meeting clash is determined using the {@code Meeting#isOverlap(Meeting)}. Thus, before every meeting is added to
  * the list, Meeting#isOverlap(Meeting) is used to check for overlap.
  *
+ * Besides the observable list, the meetings are indexed by start time. Since no two meetings in the list overlap,
+ * ordering the meetings by start time also orders them by end time, so the latest end time of all meetings starting
+ * before some instant is simply the end time of the last of them. This lets clash queries walk backwards from the
+ * query's end time and stop at the first meeting that ends before the query starts. A hash set of the meetings
+ * answers membership checks without touching the list at all.
+ *
+ * Recurring meetings appear once in the list, but are kept out of the start time index since their occurrences span
+ * far beyond their first start time. They are kept in a separate list instead, and checked for clashes through
+ * {@code Meeting#isOverlap(Meeting)}, which works on the recurrence rule rather than on each occurrence.
+ *
  * @see Meeting#isOverlap(Meeting)
  */
 public class Meetings {
 
     public static final String MESSAGE_NO_MEETINGS = "You don't have a meeting arranged with this Udder";
-    private final ObservableList<Meeting> internalList = FXCollections.observableArrayList();
+    public static final String MESSAGE_CLASHING_MEETINGS = "The following meetings clash:\n%1$s";
+    public static final String MESSAGE_CLASH_FORMAT = "Meeting with %1$s %2$s clashes with meeting with %3$s %4$s";
+    private final MeetingList internalList = new MeetingList();
+    private final NavigableMap<LocalDateTime, Meeting> startTimeIndex = new TreeMap<>();
+    private final Set<Meeting> meetingSet = new HashSet<>();
+    private final List<Meeting> recurringMeetings = new ArrayList<>();
 
     /**
      * Returns true if the meeting clashes with any of the meetings in the list.
      */
     public boolean isClash(Meeting toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isOverlap);
+        if (toCheck.isRecurring()) {
+            return !getOverlappingMeetings(toCheck).isEmpty();
+        }
+        Map.Entry<LocalDateTime, Meeting> latestStartingBefore = startTimeIndex.lowerEntry(toCheck.endTime);
+        return (latestStartingBefore != null && toCheck.isOverlap(latestStartingBefore.getValue()))
+                || recurringMeetings.stream().anyMatch(toCheck::isOverlap);
+    }
+
+    /**
+     * Returns the meetings in the list that overlap with {@code toCheck}, with the meetings that do not recur
+     * latest first, followed by the recurring meetings.
+     */
+    public List<Meeting> getOverlappingMeetings(Meeting toCheck) {
+        requireNonNull(toCheck);
+        List<Meeting> overlapping = new ArrayList<>();
+        for (Meeting meeting : startTimeIndex.headMap(toCheck.getLastEndTime(), false).descendingMap().values()) {
+            if (!meeting.endTime.isAfter(toCheck.startTime)) {
+                break;
+            }
+            if (toCheck.isOverlap(meeting)) {
+                overlapping.add(meeting);
+            }
+        }
+        for (Meeting meeting : recurringMeetings) {
+            if (toCheck.isOverlap(meeting)) {
+                overlapping.add(meeting);
+            }
+        }
+        return overlapping;
     }
 
     /**
-     * Finds the index of where the meeting should be slotted inside the list.
+     * Returns the occurrences of all meetings in the list that overlap with the period from {@code from} to
+     * {@code to}, in chronological order. Occurrences of recurring meetings are only generated for this period.
+     * The period is empty if {@code to} is not after {@code from}.
+     */
+    public List<Meeting> getOccurrencesBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        List<Meeting> occurrences = new ArrayList<>();
+        if (!to.isAfter(from)) {
+            return occurrences;
+        }
+        // Meetings do not overlap, so only the last meeting starting before from can still be running at from.
+        Map.Entry<LocalDateTime, Meeting> latestStartingBefore = startTimeIndex.lowerEntry(from);
+        if (latestStartingBefore != null && latestStartingBefore.getValue().endTime.isAfter(from)) {
+            occurrences.add(latestStartingBefore.getValue());
+        }
+        occurrences.addAll(startTimeIndex.subMap(from, true, to, false).values());
+        for (Meeting meeting : recurringMeetings) {
+            occurrences.addAll(meeting.getOccurrencesBetween(from, to));
+        }
+        occurrences.sort(Comparator.comparing(Meeting::getStartTime));
+        return occurrences;
+    }
+
+    /**
+     * Returns the meetings in the list that have ended by {@code cutoff}, counting a recurring meeting as ended only
+     * once its last occurrence has ended.
+     * Meetings that do not recur end in the same order as they start, so only those starting before the cutoff are
+     * visited.
+     */
+    public List<Meeting> getMeetingsEndedBefore(LocalDateTime cutoff) {
+        requireNonNull(cutoff);
+        List<Meeting> endedMeetings = new ArrayList<>();
+        for (Meeting meeting : startTimeIndex.headMap(cutoff, false).values()) {
+            if (!meeting.endTime.isAfter(cutoff)) {
+                endedMeetings.add(meeting);
+            }
+        }
+        for (Meeting meeting : recurringMeetings) {
+            if (!meeting.getLastEndTime().isAfter(cutoff)) {
+                endedMeetings.add(meeting);
+            }
+        }
+        return endedMeetings;
+    }
+
+    /**
+     * Finds the index of where the meeting should be slotted inside the list, which is the position of the first
+     * meeting that does not start before it. The list is kept sorted by start time, so a binary search suffices.
      *
      * @param toAdd Meeting to be added.
      * @return A valid index from 0 to size of list.
      */
     public int findIndex(Meeting toAdd) {
-        for (int i = 0; i < internalList.size() - 1; i++) {
-            Meeting temp = internalList.get(i);
-            LocalDateTime endTimeTemp = temp.endTime;
+        return findIndex(toAdd.startTime);
+    }
 
-            if (toAdd.startTime.isAfter(endTimeTemp)) {
-                return i;
+    /**
+     * Returns the position of the first meeting in the list that does not start before {@code startTime}.
+     */
+    private int findIndex(LocalDateTime startTime) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (internalList.get(mid).startTime.isBefore(startTime)) {
+                low = mid + 1;
+            } else {
+                high = mid;
             }
         }
-        return internalList.size();
+        return low;
     }
 
     /**
@@ -59,26 +166,18 @@ public class Meetings {
      * @return A valid index from 0 to size of list.
      */
     public int findIndexOfMeetingToDelete(Meeting toDelete) {
-        int index = -1;
-        for (int i = 0; i < internalList.size(); i++) {
-            if (internalList.get(i).equals(toDelete)) {
-                index = i;
-                break;
-            }
-        }
-        if (index == -1) {
+        if (!meetingSet.contains(toDelete)) {
             throw new MeetingNotFoundException();
         }
+        // A recurring meeting may share its start time with another meeting if its first occurrence is skipped.
+        int index = findIndex(toDelete);
+        while (!internalList.get(index).equals(toDelete)) {
+            index++;
+        }
+        assert internalList.get(index).startTime.equals(toDelete.startTime);
         return index;
     }
 
-    /**
-     * Sorts the list of meetings by startTime.
-     */
-    public void sortMeetingsByStartTime() {
-        FXCollections.sort(internalList, Comparator.comparing(Meeting::getStartTime));
-    }
-
     /**
      * Adds a meeting to the list.
      * The meeting must not clash with other meetings in the list.
@@ -89,12 +188,11 @@ public class Meetings {
             throw new TimeClashException();
         }
 
+        // find the index to slot the meeting in.
         int index = findIndex(toAdd);
 
-        // find the index to slot the meeting in.
         internalList.add(index, toAdd);
-
-        sortMeetingsByStartTime();
+        index(toAdd);
     }
 
     /**
@@ -106,7 +204,24 @@ public class Meetings {
         requireNonNull(toDelete);
         int index = findIndexOfMeetingToDelete(toDelete);
         internalList.remove(index);
-        sortMeetingsByStartTime();
+        unindex(toDelete);
+    }
+
+    /**
+     * Deletes all of {@code toDelete} from the list in a single list change.
+     * Every meeting in {@code toDelete} must exist in the list.
+     *
+     * @param toDelete The meetings to be deleted.
+     */
+    public void deleteMeetings(Collection<Meeting> toDelete) {
+        requireAllNonNull(toDelete);
+        Set<Meeting> meetingsToDelete = new HashSet<>(toDelete);
+        if (!meetingSet.containsAll(meetingsToDelete)) {
+            throw new MeetingNotFoundException();
+        }
+
+        internalList.removeAll(meetingsToDelete);
+        meetingsToDelete.forEach(this::unindex);
     }
 
     public Meeting getMeeting(int index) {
@@ -118,7 +233,7 @@ public class Meetings {
      */
     public boolean contains(Meeting meeting) {
         requireNonNull(meeting);
-        return internalList.stream().anyMatch(meeting::equals);
+        return meetingSet.contains(meeting);
     }
 
     /**
@@ -129,25 +244,64 @@ public class Meetings {
     public void setMeeting(Meeting target, Meeting editedMeeting) {
         requireAllNonNull(target, editedMeeting);
 
-        boolean isClash = internalList.stream()
-                .filter(meeting -> !meeting.equals(target))
-                .anyMatch(editedMeeting::isOverlap);
+        boolean isClash = getOverlappingMeetings(editedMeeting).stream()
+                .anyMatch(meeting -> !meeting.equals(target));
 
         if (isClash) {
             throw new TimeClashException();
         }
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new MeetingNotFoundException();
-        }
+        int index = findIndexOfMeetingToDelete(target);
 
         if (!target.equals(editedMeeting) && contains(editedMeeting)) {
             throw new DuplicateMeetingException();
         }
 
-        internalList.set(index, editedMeeting);
-        sortMeetingsByStartTime();
+        unindex(target);
+        index(editedMeeting);
+
+        if (isInOrderAt(index, editedMeeting)) {
+            internalList.set(index, editedMeeting);
+        } else {
+            // target is still in the list, so it is counted before the new position if it starts earlier.
+            int newIndex = findIndex(editedMeeting);
+            internalList.move(index, newIndex > index ? newIndex - 1 : newIndex, editedMeeting);
+        }
+    }
+
+    /**
+     * Adds {@code meeting} to the indexes of the list.
+     */
+    private void index(Meeting meeting) {
+        if (meeting.isRecurring()) {
+            recurringMeetings.add(meeting);
+        } else {
+            startTimeIndex.put(meeting.startTime, meeting);
+        }
+        meetingSet.add(meeting);
+    }
+
+    /**
+     * Removes {@code meeting} from the indexes of the list.
+     */
+    private void unindex(Meeting meeting) {
+        if (meeting.isRecurring()) {
+            recurringMeetings.remove(meeting);
+        } else {
+            startTimeIndex.remove(meeting.startTime);
+        }
+        meetingSet.remove(meeting);
+    }
+
+    /**
+     * Returns true if {@code meeting} can replace the meeting at {@code index} without breaking the ordering of the
+     * list by start time.
+     */
+    private boolean isInOrderAt(int index, Meeting meeting) {
+        boolean isAfterPrevious = index == 0 || internalList.get(index - 1).startTime.isBefore(meeting.startTime);
+        boolean isBeforeNext = index == internalList.size() - 1
+                || internalList.get(index + 1).startTime.isAfter(meeting.startTime);
+        return isAfterPrevious && isBeforeNext;
     }
 
     public int getMeetingsCount() {
@@ -186,6 +340,46 @@ public class Meetings {
         return meetingList.toString();
     }
 
+    /**
+     * Formats the occurrences of meetings that overlap with the period from {@code from} to {@code to} in the same
+     * way as {@link #toString()}, in chronological order. Each row is numbered by the position of its meeting in the
+     * list, so an occurrence of a recurring meeting has the number of the recurring meeting.
+     * The meetings that do not recur are found by a binary search for {@code from} followed by a walk through the
+     * list up to {@code to}, so the rest of the list is never visited.
+     */
+    public String toString(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        List<Map.Entry<Integer, Meeting>> rows = new ArrayList<>();
+
+        // Meetings do not overlap, so only the last meeting starting before from can still be running at from.
+        Map.Entry<LocalDateTime, Meeting> latestStartingBefore = startTimeIndex.lowerEntry(from);
+        if (latestStartingBefore != null && latestStartingBefore.getValue().endTime.isAfter(from)) {
+            Meeting ongoingMeeting = latestStartingBefore.getValue();
+            rows.add(Map.entry(findIndexOfMeetingToDelete(ongoingMeeting), ongoingMeeting));
+        }
+        for (int i = findIndex(from); i < internalList.size() && internalList.get(i).startTime.isBefore(to); i++) {
+            if (!internalList.get(i).isRecurring()) {
+                rows.add(Map.entry(i, internalList.get(i)));
+            }
+        }
+        for (Meeting recurringMeeting : recurringMeetings) {
+            List<Meeting> occurrences = recurringMeeting.getOccurrencesBetween(from, to);
+            if (!occurrences.isEmpty()) {
+                int index = findIndexOfMeetingToDelete(recurringMeeting);
+                occurrences.forEach(occurrence -> rows.add(Map.entry(index, occurrence)));
+            }
+        }
+        rows.sort(Comparator.comparing(row -> row.getValue().startTime));
+
+        StringBuilder meetingList = new StringBuilder();
+        for (Map.Entry<Integer, Meeting> row : rows) {
+            meetingList.append(row.getKey() + 1).append(". Meeting with ")
+                    .append(row.getValue().getPersonToMeet().fullName).append(" ").append(row.getValue().toString())
+                    .append("\n");
+        }
+        return meetingList.toString();
+    }
+
     /**
      * Formats the string output of the meetings list to be displayed in the DetailPanel.
      * @return String output of meetings list
@@ -215,9 +409,120 @@ public class Meetings {
 
     /**
      * Replaces the contents of the meeting list with {@code meetings}.
+     * {@code meetings} must not contain clashing meetings.
      */
     public void setInternalList(List<Meeting> replacement) {
-        requireNonNull(replacement);
-        internalList.setAll(replacement);
+        setAllValidated(replacement);
+    }
+
+    /**
+     * Replaces the contents of the meeting list with {@code replacement}, which may be in any order.
+     * The replacement is sorted once and checked for clashes in a single sweep, instead of adding the meetings one
+     * by one.
+     *
+     * @throws TimeClashException listing every pair of clashing meetings if {@code replacement} has any.
+     */
+    public void setAllValidated(List<Meeting> replacement) {
+        setAll(replacement, true);
+    }
+
+    /**
+     * Replaces the contents of the meeting list with {@code replacement}, which may be in any order, without checking
+     * it for clashes. {@code replacement} must be known not to contain clashing meetings, e.g. because it was saved
+     * by the app from a meeting list that did not.
+     */
+    public void setAllTrusted(List<Meeting> replacement) {
+        setAll(replacement, false);
+    }
+
+    private void setAll(List<Meeting> replacement, boolean isCheckingClashes) {
+        requireAllNonNull(replacement);
+        List<Meeting> sortedReplacement = new ArrayList<>(replacement);
+        sortedReplacement.sort(Comparator.comparing(Meeting::getStartTime));
+
+        if (isCheckingClashes) {
+            List<String> clashes = findClashes(sortedReplacement);
+            if (!clashes.isEmpty()) {
+                throw new TimeClashException(String.format(MESSAGE_CLASHING_MEETINGS, String.join("\n", clashes)));
+            }
+        }
+
+        internalList.setAll(sortedReplacement);
+        startTimeIndex.clear();
+        meetingSet.clear();
+        recurringMeetings.clear();
+        sortedReplacement.forEach(this::index);
+    }
+
+    /**
+     * Returns a description of every pair of clashing meetings in {@code meetingsByStartTime}.
+     * Sweeps through the meetings in order of start time while keeping the meetings that have not ended yet in a
+     * heap ordered by end time, so each meeting only has to be compared against the meetings it may clash with.
+     * A recurring meeting stays in the heap until its last occurrence ends, and is compared through its rule.
+     *
+     * @param meetingsByStartTime Meetings sorted by start time.
+     */
+    private static List<String> findClashes(List<Meeting> meetingsByStartTime) {
+        List<String> clashes = new ArrayList<>();
+        PriorityQueue<Meeting> ongoingMeetings = new PriorityQueue<>(Comparator.comparing(Meeting::getLastEndTime));
+        for (Meeting meeting : meetingsByStartTime) {
+            while (!ongoingMeetings.isEmpty() && !ongoingMeetings.peek().getLastEndTime().isAfter(meeting.startTime)) {
+                ongoingMeetings.poll();
+            }
+            for (Meeting ongoingMeeting : ongoingMeetings) {
+                if (ongoingMeeting.isOverlap(meeting)) {
+                    clashes.add(String.format(MESSAGE_CLASH_FORMAT, ongoingMeeting.getPersonToMeet(),
+                            ongoingMeeting, meeting.getPersonToMeet(), meeting));
+                }
+            }
+            ongoingMeetings.add(meeting);
+        }
+        return clashes;
+    }
+
+    /**
+     * The observable list of meetings, which can also move a meeting to another position in a single list change.
+     */
+    private static class MeetingList extends ModifiableObservableListBase<Meeting> {
+        private final List<Meeting> meetings = new ArrayList<>();
+
+        /**
+         * Removes the meeting at {@code fromIndex} and inserts {@code meeting} at {@code toIndex} of the remaining
+         * list, as a single list change.
+         */
+        void move(int fromIndex, int toIndex, Meeting meeting) {
+            beginChange();
+            try {
+                remove(fromIndex);
+                add(toIndex, meeting);
+            } finally {
+                endChange();
+            }
+        }
+
+        @Override
+        public Meeting get(int index) {
+            return meetings.get(index);
+        }
+
+        @Override
+        public int size() {
+            return meetings.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Meeting meeting) {
+            meetings.add(index, meeting);
+        }
+
+        @Override
+        protected Meeting doSet(int index, Meeting meeting) {
+            return meetings.set(index, meeting);
+        }
+
+        @Override
+        protected Meeting doRemove(int index) {
+            return meetings.remove(index);
+        }
     }
 }
@@ -0,0 +1,130 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the rule by which a recurring {@code Meeting} repeats: every fixed number of days up to and including
+ * an end date, except on the dates that have been skipped.
+ * Guarantees: immutable; interval is valid as declared in {@link #isValidInterval(int)}
+ */
+public class Recurrence {
+
+    public static final String MESSAGE_CONSTRAINTS = "A meeting can only repeat every positive number of days";
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("d MMMM yyyy");
+
+    public final int intervalDays;
+    public final LocalDate until;
+    private final Set<LocalDate> skippedDates;
+
+    /**
+     * Constructs a {@code Recurrence}.
+     *
+     * @param intervalDays A valid number of days between the starts of two occurrences.
+     * @param until The last date on which an occurrence may start.
+     * @param skippedDates Dates on which the meeting does not take place.
+     */
+    public Recurrence(int intervalDays, LocalDate until, Set<LocalDate> skippedDates) {
+        requireNonNull(until);
+        requireNonNull(skippedDates);
+        if (!isValidInterval(intervalDays)) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+        this.intervalDays = intervalDays;
+        this.until = until;
+        this.skippedDates = Collections.unmodifiableSet(new HashSet<>(skippedDates));
+    }
+
+    /**
+     * Returns true if a given number of days is a valid interval.
+     */
+    public static boolean isValidInterval(int intervalDays) {
+        return intervalDays > 0;
+    }
+
+    /**
+     * Returns true if the meeting does not take place on {@code date}.
+     */
+    public boolean isSkipped(LocalDate date) {
+        return skippedDates.contains(date);
+    }
+
+    /**
+     * Returns a copy of this rule that additionally skips {@code dates}.
+     */
+    public Recurrence withSkippedDates(Set<LocalDate> dates) {
+        Set<LocalDate> updatedSkippedDates = new HashSet<>(skippedDates);
+        updatedSkippedDates.addAll(dates);
+        return new Recurrence(intervalDays, until, updatedSkippedDates);
+    }
+
+    public int getIntervalDays() {
+        return intervalDays;
+    }
+
+    public LocalDate getUntil() {
+        return until;
+    }
+
+    /**
+     * Returns an immutable set of skipped dates, which throws {@code UnsupportedOperationException}
+     * if modification is attempted.
+     */
+    public Set<LocalDate> getSkippedDates() {
+        return skippedDates;
+    }
+
+    /**
+     * Returns a description of the rule for display to the user.
+     */
+    public String toDisplayString() {
+        StringBuilder builder = new StringBuilder("every ").append(intervalDays)
+                .append(intervalDays == 1 ? " day" : " days")
+                .append(" until ").append(FORMATTER.format(until));
+        if (!skippedDates.isEmpty()) {
+            builder.append(" (skipping ").append(skippedDates.size())
+                    .append(skippedDates.size() == 1 ? " date)" : " dates)");
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Recurrence)) {
+            return false;
+        }
+
+        Recurrence otherRecurrence = (Recurrence) other;
+        return intervalDays == otherRecurrence.intervalDays && until.equals(otherRecurrence.until)
+                && skippedDates.equals(otherRecurrence.skippedDates);
+    }
+
+    @Override
+    public int hashCode() {
+        // use this method for custom fields hashing instead of implementing your own
+        return Objects.hash(intervalDays, until, skippedDates);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("intervalDays", intervalDays)
+                .add("until", until)
+                .add("skippedDates", skippedDates)
+                .toString();
+    }
+}
@@ -19,11 +19,22 @@ public class Role {
      * @param role a valid role.
      */
     public Role(String role) {
+        this(role, true);
+    }
+
+    private Role(String role, boolean isValidating) {
         requireNonNull(role);
-        checkArgument(isValidRole(role), MESSAGE_CONSTRAINTS);
+        if (isValidating) {
+            checkArgument(isValidRole(role), MESSAGE_CONSTRAINTS);
+        }
         this.role = role;
     }
 
+    /** Returns the {@code Role} {@code role} without checking again that it is a brUdder or mUdder. */
+    public static Role ofTrusted(String role) {
+        return new Role(role, false);
+    }
+
     /**
      * Returns true if a given role string is a valid role.
      */
@@ -3,8 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +21,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Since two persons are the same person exactly when their names are equal, the persons are also kept in a map keyed by
+ * name, which is used for the identity checks instead of scanning the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +33,22 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Person> personsByName = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the person in the list with the given {@code name}, if any.
+     */
+    public Optional<Person> getPerson(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(personsByName.get(name));
     }
 
     /**
@@ -46,6 +61,24 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        personsByName.put(toAdd.getName(), toAdd);
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the list at once, so that the list only reports a single change.
+     * The persons must not already exist in the list, and must not contain duplicate persons.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<Name, Person> addedByName = new HashMap<>();
+        for (Person person : toAdd) {
+            if (contains(person) || addedByName.putIfAbsent(person.getName(), person) != null) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        internalList.addAll(toAdd);
+        personsByName.putAll(addedByName);
     }
 
     /**
@@ -56,8 +89,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!target.equals(personsByName.get(target.getName()))) {
             throw new PersonNotFoundException();
         }
 
@@ -65,7 +97,10 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        int index = internalList.indexOf(target);
         internalList.set(index, editedPerson);
+        personsByName.remove(target.getName());
+        personsByName.put(editedPerson.getName(), editedPerson);
     }
 
     /**
@@ -74,14 +109,18 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!toRemove.equals(personsByName.get(toRemove.getName()))) {
             throw new PersonNotFoundException();
         }
+        internalList.remove(toRemove);
+        personsByName.remove(toRemove.getName());
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        personsByName.clear();
+        personsByName.putAll(replacement.personsByName);
     }
 
     /**
@@ -90,11 +129,16 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<Name, Person> replacementByName = new HashMap<>();
+        for (Person person : persons) {
+            if (replacementByName.putIfAbsent(person.getName(), person) != null) {
+                throw new DuplicatePersonException();
+            }
         }
 
         internalList.setAll(persons);
+        personsByName.clear();
+        personsByName.putAll(replacementByName);
     }
 
     /**
@@ -133,18 +177,4 @@ public class UniquePersonList implements Iterable<Person> {
     public String toString() {
         return internalList.toString();
     }
-
-    /**
-     * Returns true if {@code persons} contains only unique persons.
-     */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
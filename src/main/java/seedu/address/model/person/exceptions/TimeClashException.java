@@ -8,4 +8,8 @@ public class TimeClashException extends RuntimeException {
     public TimeClashException() {
         super("Operation would result in time clash");
     }
+
+    public TimeClashException(String message) {
+        super(message);
+    }
 }
@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Keeps the last {@link #BACKUP_COUNT} versions of an address book file next to it, so that if the file cannot be
+ * loaded, e.g. because it was damaged, the newest backup that can still be loaded is used instead.
+ *
+ * A backup is made just before a new version of the file replaces it. As the file is always replaced with a new file
+ * rather than written over, the backup is a hard link to the old file, which costs no copying. The journal and
+ * checkpoint manifest of a json address book are kept with it, so that each backup can be loaded on its own.
+ */
+class AddressBookBackups {
+
+    /** The number of backups kept of each address book file. */
+    static final int BACKUP_COUNT = 3;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookBackups.class);
+
+    /** The files kept with an address book file, as found from its path, including the address book file itself. */
+    private static final List<UnaryOperator<Path>> BACKED_UP_FILES = List.of(
+            filePath -> filePath,
+            JsonAddressBookStorage::getJournalFilePathFor,
+            JsonAddressBookStorage::getCheckpointFilePathFor);
+
+    /**
+     * Reads the address book in a backup, returning an empty {@code Optional} if there is no such file.
+     */
+    @FunctionalInterface
+    interface BackupReader {
+        Optional<ReadOnlyAddressBook> read(Path backupFilePath) throws DataLoadingException;
+    }
+
+    private AddressBookBackups() {}
+
+    /**
+     * Returns the path of backup {@code number} of the address book file at {@code addressBookFilePath}, where backup
+     * 1 is the newest. For example, backup 1 of {@code data/findingbrUdders.json} is
+     * {@code data/findingbrUdders-backup1.json}.
+     */
+    static Path getBackupFilePathFor(Path addressBookFilePath, int number) {
+        String fileName = addressBookFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        String extension = extensionIndex > 0 ? fileName.substring(extensionIndex) : "";
+        return addressBookFilePath.resolveSibling(baseName + "-backup" + number + extension);
+    }
+
+    /**
+     * Keeps the address book file at {@code filePath}, along with the files kept with it, as the newest backup,
+     * dropping the oldest backup if there are already {@link #BACKUP_COUNT}. Nothing is done if there is no such file.
+     * Must be called before any of the files are replaced.
+     */
+    static void backUp(Path filePath) throws IOException {
+        if (!Files.exists(filePath)) {
+            return;
+        }
+        for (int number = BACKUP_COUNT; number > 1; number--) {
+            moveBackup(getBackupFilePathFor(filePath, number - 1), getBackupFilePathFor(filePath, number));
+        }
+
+        Path newestBackupFilePath = getBackupFilePathFor(filePath, 1);
+        for (UnaryOperator<Path> backedUpFile : BACKED_UP_FILES) {
+            Path source = backedUpFile.apply(filePath);
+            Path target = backedUpFile.apply(newestBackupFilePath);
+            Files.deleteIfExists(target);
+            if (Files.exists(source)) {
+                link(source, target);
+            }
+        }
+    }
+
+    private static void moveBackup(Path source, Path target) throws IOException {
+        for (UnaryOperator<Path> backedUpFile : BACKED_UP_FILES) {
+            Path sourceFile = backedUpFile.apply(source);
+            Path targetFile = backedUpFile.apply(target);
+            if (Files.exists(sourceFile)) {
+                Files.move(sourceFile, targetFile, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.deleteIfExists(targetFile);
+            }
+        }
+    }
+
+    /**
+     * Makes {@code target} a hard link to {@code source}, or a copy of it where the file system has no hard links.
+     */
+    private static void link(Path source, Path target) throws IOException {
+        try {
+            Files.createLink(target, source);
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the address book in the newest backup of the address book file at {@code filePath} that can be loaded
+     * with {@code reader}, or an empty {@code Optional} if there is no such backup.
+     */
+    static Optional<ReadOnlyAddressBook> readNewestValidBackup(Path filePath, BackupReader reader) {
+        for (Path backupFilePath : getExistingBackupFilePathsFor(filePath)) {
+            try {
+                Optional<ReadOnlyAddressBook> addressBook = reader.read(backupFilePath);
+                if (addressBook.isPresent()) {
+                    logger.info("Loaded backup " + backupFilePath + " of " + filePath);
+                    return addressBook;
+                }
+            } catch (DataLoadingException | RuntimeException e) {
+                // A damaged backup must not keep the older backups from being tried.
+                logger.warning("Backup " + backupFilePath + " could not be loaded either: " + e.getMessage());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static List<Path> getExistingBackupFilePathsFor(Path filePath) {
+        List<Path> backupFilePaths = new ArrayList<>();
+        for (int number = 1; number <= BACKUP_COUNT; number++) {
+            Path backupFilePath = getBackupFilePathFor(filePath, number);
+            if (Files.exists(backupFilePath)) {
+                backupFilePaths.add(backupFilePath);
+            }
+        }
+        return backupFilePaths;
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book files between the json and binary formats. Both formats hold every detail of the address
+ * book, so converting a file to the other format and back gives the same address book.
+ */
+public class AddressBookFormatConverter {
+
+    private AddressBookFormatConverter() {}
+
+    /**
+     * Converts the json address book file at {@code jsonFilePath}, together with its journal, into a binary address
+     * book file at {@code binaryFilePath}.
+     *
+     * @throws DataLoadingException if the json file is missing or could not be loaded.
+     * @throws IOException if there was any problem writing to the binary file.
+     */
+    public static void convertJsonToBinary(Path jsonFilePath, Path binaryFilePath)
+            throws DataLoadingException, IOException {
+        convert(new JsonAddressBookStorage(jsonFilePath), new BinaryAddressBookStorage(binaryFilePath));
+    }
+
+    /**
+     * Converts the binary address book file at {@code binaryFilePath} into a json address book file at
+     * {@code jsonFilePath}.
+     *
+     * @throws DataLoadingException if the binary file is missing or could not be loaded.
+     * @throws IOException if there was any problem writing to the json file.
+     */
+    public static void convertBinaryToJson(Path binaryFilePath, Path jsonFilePath)
+            throws DataLoadingException, IOException {
+        convert(new BinaryAddressBookStorage(binaryFilePath), new JsonAddressBookStorage(jsonFilePath));
+    }
+
+    private static void convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        ReadOnlyAddressBook addressBook = source.readAddressBook().orElseThrow(() ->
+                new DataLoadingException(new NoSuchFileException(source.getAddressBookFilePath().toString())));
+        target.saveAddressBook(addressBook);
+    }
+}
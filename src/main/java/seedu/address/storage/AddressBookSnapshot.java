@@ -0,0 +1,47 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.Person;
+
+/**
+ * A snapshot of an address book that is not affected by later changes to the address book, so that it can be written
+ * on another thread. Persons and meetings are immutable apart from each person's meetings, so only the lists holding
+ * them are copied.
+ */
+class AddressBookSnapshot {
+
+    private final List<Person> persons;
+    private final List<List<Meeting>> meetingsOfPersons;
+    private final List<Meeting> meetings;
+
+    /**
+     * Takes a snapshot of {@code addressBook}.
+     */
+    AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+        persons = new ArrayList<>(addressBook.getPersonList());
+        meetingsOfPersons = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            meetingsOfPersons.add(new ArrayList<>(person.getMeetings().getInternalList()));
+        }
+        meetings = new ArrayList<>(addressBook.getMeetingList());
+    }
+
+    List<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the meetings that the person at {@code index} of {@link #getPersons()} had.
+     */
+    List<Meeting> getMeetingsOfPerson(int index) {
+        return meetingsOfPersons.get(index);
+    }
+
+    List<Meeting> getMeetings() {
+        return meetings;
+    }
+}
@@ -2,10 +2,14 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * Represents a storage for {@link seedu.address.model.AddressBook}.
@@ -30,6 +34,29 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Similar to {@link #readAddressBook()}, but also hands the persons read to {@code loadedPersonsHandler} in
+     * batches as soon as they are read, on the thread reading the file, so that they can be shown before the whole
+     * file has been read. The returned address book may still differ from the persons handed over, e.g. because
+     * changes saved after them are applied last, or because a later person is invalid.
+     *
+     * By default, the whole file is read first and no persons are handed over.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    default Optional<ReadOnlyAddressBook> readAddressBookInBatches(Consumer<List<Person>> loadedPersonsHandler)
+            throws DataLoadingException {
+        return readAddressBook();
+    }
+
+    /**
+     * Returns the AddressBook data in the newest backup of the data file that can be loaded, for use when the data
+     * file itself cannot be. Returns {@code Optional.empty()} if there is no such backup.
+     */
+    default Optional<ReadOnlyAddressBook> readNewestValidBackup() {
+        return AddressBookBackups.readNewestValidBackup(getAddressBookFilePath(), this::readAddressBook);
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -42,4 +69,14 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Prepares a save of {@code changes}, which were made to {@code addressBook} since it was last saved.
+     * The whole {@code addressBook} may be saved instead, e.g. when the changes cannot be saved on their own.
+     * A snapshot of what is to be written is taken right away, so the returned save can be carried out later on
+     * another thread. Prepared saves must be carried out in the order they were prepared.
+     * @param addressBook cannot be null.
+     * @param changes cannot be null.
+     */
+    PendingSave prepareAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes);
+
 }
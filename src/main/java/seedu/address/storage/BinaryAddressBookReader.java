@@ -0,0 +1,422 @@
+package seedu.address.storage;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Major;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Recurrence;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.exceptions.TimeClashException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads an address book from a file in the compact binary format described in {@link BinaryAddressBookStorage}.
+ * The data is validated with the same constraints, and the same messages, as data read from json. Each role, major
+ * and tag in the dictionary is only validated the first time it is used.
+ *
+ * The reader decodes a buffer holding the whole file, which may be a mapping of the file rather than a copy of it.
+ * Besides reading the whole address book, it can read a single person found through the index at the end of the
+ * file, which is how {@link MappedAddressBook} reads persons only when they are needed.
+ */
+class BinaryAddressBookReader {
+
+    public static final String MESSAGE_INVALID_TIME = "Meeting times and recurrence dates must be valid dates";
+
+    private final ByteBuffer buffer;
+    private final int version;
+    private final List<String> dictionary = new ArrayList<>();
+    private final List<Role> roles = new ArrayList<>();
+    private final List<Major> majors = new ArrayList<>();
+    private final List<Tag> tags = new ArrayList<>();
+
+    private BinaryAddressBookReader(ByteBuffer buffer, int version) {
+        this.buffer = buffer;
+        this.version = version;
+    }
+
+    /**
+     * Reads the address book in the binary file at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        // The file is copied rather than mapped, as a mapped file cannot be replaced on some platforms.
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        try {
+            return open(buffer).readAddressBook();
+        } catch (BufferUnderflowException e) {
+            throw new EOFException("Unexpected end of binary address book");
+        }
+    }
+
+    /**
+     * Returns a reader of the binary address book in {@code buffer}, after reading its header and dictionary.
+     *
+     * @throws IOException if the buffer does not hold a binary address book.
+     */
+    static BinaryAddressBookReader open(ByteBuffer buffer) throws IOException {
+        byte[] header = new byte[BinaryAddressBookStorage.MAGIC_HEADER.length];
+        BinaryAddressBookReader reader;
+        try {
+            buffer.get(header);
+            if (!BinaryAddressBookStorage.isMagicHeader(header)) {
+                throw new IOException("Not a binary address book file");
+            }
+            int version = Byte.toUnsignedInt(buffer.get());
+            if (version < BinaryAddressBookStorage.FIRST_FORMAT_VERSION
+                    || version > BinaryAddressBookStorage.FORMAT_VERSION) {
+                throw new IOException("Unsupported binary address book format version " + version);
+            }
+
+            reader = new BinaryAddressBookReader(buffer, version);
+            reader.readDictionary();
+        } catch (BufferUnderflowException e) {
+            throw new EOFException("Unexpected end of binary address book");
+        }
+        return reader;
+    }
+
+    /**
+     * Returns true if the address book has an index of its persons, which files saved before the index was added
+     * do not have.
+     */
+    boolean hasIndex() {
+        return version >= BinaryAddressBookStorage.FIRST_INDEXED_FORMAT_VERSION;
+    }
+
+    private void readDictionary() throws IOException {
+        int dictionarySize = readVarInt();
+        for (int i = 0; i < dictionarySize; i++) {
+            dictionary.add(readString());
+            roles.add(null);
+            majors.add(null);
+            tags.add(null);
+        }
+    }
+
+    private AddressBook readAddressBook() throws IOException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        int personCount = readVarInt();
+        for (int i = 0; i < personCount; i++) {
+            Person person = readPerson();
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+
+        try {
+            addressBook.setMeetings(readMeetings());
+        } catch (TimeClashException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+
+        int end = hasIndex() ? readIndex(buffer).getIndexOffset() : buffer.limit();
+        if (buffer.position() != end) {
+            throw new IOException("Unexpected data after the end of the binary address book");
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the index at the end of the binary address book in {@code buffer}, which must have an index.
+     *
+     * @throws IOException if the index is not in the expected format.
+     */
+    static FileIndex readIndex(ByteBuffer buffer) throws IOException {
+        int limit = buffer.limit();
+        if (limit < FileIndex.FOOTER_SIZE) {
+            throw new EOFException("Unexpected end of binary address book");
+        }
+        int personCount = buffer.getInt(limit - FileIndex.FOOTER_SIZE);
+        int meetingsOffset = buffer.getInt(limit - FileIndex.FOOTER_SIZE + Integer.BYTES);
+        int indexOffset = buffer.getInt(limit - FileIndex.FOOTER_SIZE + 2 * Integer.BYTES);
+        if (personCount < 0 || meetingsOffset < 0 || meetingsOffset > indexOffset
+                || indexOffset != limit - FileIndex.FOOTER_SIZE - (long) personCount * Integer.BYTES) {
+            throw new IOException("The index of the binary address book is corrupted");
+        }
+
+        ByteBuffer offsets = buffer.duplicate().position(indexOffset).limit(limit - FileIndex.FOOTER_SIZE);
+        return new FileIndex(offsets.slice().asIntBuffer(), meetingsOffset, indexOffset);
+    }
+
+    /**
+     * Reads the person that starts at {@code offset}, together with the person's meetings.
+     *
+     * @throws IOException if the data there is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    Person readPersonAt(int offset) throws IOException, IllegalValueException {
+        try {
+            buffer.position(offset);
+            return readPerson();
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new EOFException("Unexpected end of binary address book");
+        }
+    }
+
+    /**
+     * Reads the meetings of the address book, which start at {@code offset}.
+     *
+     * @throws IOException if the data there is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    List<Meeting> readMeetingsAt(int offset) throws IOException, IllegalValueException {
+        try {
+            buffer.position(offset);
+            return readMeetings();
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new EOFException("Unexpected end of binary address book");
+        }
+    }
+
+    private Person readPerson() throws IOException, IllegalValueException {
+        String name = readString();
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        String phone = readString();
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        String email = readString();
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+        Role role = readRole();
+        Major major = readMajor();
+        String address = readString();
+        if (!Address.isValidAddress(address)) {
+            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+        }
+
+        int tagCount = readVarInt();
+        Set<Tag> personTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            personTags.add(readTag());
+        }
+
+        Person person = new Person(new Name(name), new Phone(phone), new Email(email), role, major,
+                new Address(address), personTags);
+        try {
+            person.getMeetings().setAllValidated(readMeetings());
+        } catch (TimeClashException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+        return person;
+    }
+
+    private Role readRole() throws IOException, IllegalValueException {
+        int index = readDictionaryIndex();
+        if (roles.get(index) == null) {
+            if (!Role.isValidRole(dictionary.get(index))) {
+                throw new IllegalValueException(Role.MESSAGE_CONSTRAINTS);
+            }
+            roles.set(index, new Role(dictionary.get(index)));
+        }
+        return roles.get(index);
+    }
+
+    private Major readMajor() throws IOException, IllegalValueException {
+        int index = readDictionaryIndex();
+        if (majors.get(index) == null) {
+            if (!Major.isValidMajor(dictionary.get(index))) {
+                throw new IllegalValueException(Major.MESSAGE_CONSTRAINTS);
+            }
+            majors.set(index, new Major(dictionary.get(index)));
+        }
+        return majors.get(index);
+    }
+
+    private Tag readTag() throws IOException, IllegalValueException {
+        int index = readDictionaryIndex();
+        if (tags.get(index) == null) {
+            if (!Tag.isValidTagName(dictionary.get(index))) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags.set(index, new Tag(dictionary.get(index)));
+        }
+        return tags.get(index);
+    }
+
+    private List<Meeting> readMeetings() throws IOException, IllegalValueException {
+        int meetingCount = readVarInt();
+        List<Meeting> meetings = new ArrayList<>();
+        for (int i = 0; i < meetingCount; i++) {
+            String person = readString();
+            if (!Name.isValidName(person)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            LocalDateTime startTime = toDateTime(readVarLong());
+            LocalDateTime endTime = toDateTime(readVarLong());
+            String location = readString();
+            Recurrence recurrence = buffer.get() != 0 ? readRecurrence() : null;
+
+            try {
+                meetings.add(new Meeting(new Name(person), startTime, endTime, location, recurrence));
+            } catch (CommandException e) {
+                throw new IllegalValueException(e.getMessage(), e);
+            }
+        }
+        return meetings;
+    }
+
+    private Recurrence readRecurrence() throws IOException, IllegalValueException {
+        int intervalDays = readVarInt();
+        if (!Recurrence.isValidInterval(intervalDays)) {
+            throw new IllegalValueException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+        LocalDate until = toDate(readVarLong());
+
+        int skippedDateCount = readVarInt();
+        Set<LocalDate> skippedDates = new HashSet<>();
+        for (int i = 0; i < skippedDateCount; i++) {
+            skippedDates.add(toDate(readVarLong()));
+        }
+        return new Recurrence(intervalDays, until, skippedDates);
+    }
+
+    private static LocalDateTime toDateTime(long epochMinute) throws IllegalValueException {
+        try {
+            return LocalDateTime.ofEpochSecond(Math.multiplyExact(epochMinute, 60L), 0, ZoneOffset.UTC);
+        } catch (DateTimeException | ArithmeticException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_TIME);
+        }
+    }
+
+    private static LocalDate toDate(long epochDay) throws IllegalValueException {
+        try {
+            return LocalDate.ofEpochDay(epochDay);
+        } catch (DateTimeException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_TIME);
+        }
+    }
+
+    private int readDictionaryIndex() throws IOException {
+        int index = readVarInt();
+        if (index >= dictionary.size()) {
+            throw new IOException("Dictionary index " + index + " is out of range");
+        }
+        return index;
+    }
+
+    private String readString() throws IOException {
+        int length = readVarInt();
+        if (length > buffer.remaining()) {
+            throw new EOFException("Unexpected end of binary address book");
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int readVarInt() throws IOException {
+        long value = readUnsignedVarLong();
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IOException("Number " + value + " is out of range");
+        }
+        return (int) value;
+    }
+
+    private long readVarLong() throws IOException {
+        long zigzag = readUnsignedVarLong();
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    private long readUnsignedVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = Byte.toUnsignedInt(buffer.get());
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Number is longer than 64 bits");
+    }
+
+    /**
+     * The index at the end of a binary address book, which holds the offset of every person in the file followed by
+     * a footer of {@link #FOOTER_SIZE} bytes. The footer holds the number of persons, the offset of the meetings of
+     * the address book and the offset of the index itself.
+     */
+    static class FileIndex {
+        static final int FOOTER_SIZE = 3 * Integer.BYTES;
+
+        private final IntBuffer personOffsets;
+        private final int meetingsOffset;
+        private final int indexOffset;
+
+        private FileIndex(IntBuffer personOffsets, int meetingsOffset, int indexOffset) {
+            this.personOffsets = personOffsets;
+            this.meetingsOffset = meetingsOffset;
+            this.indexOffset = indexOffset;
+        }
+
+        int getPersonCount() {
+            return personOffsets.limit();
+        }
+
+        /**
+         * Returns the offset of the person at {@code index}, which is read from the file itself.
+         *
+         * @throws IOException if the offset does not point into the persons in the file.
+         */
+        int getPersonOffset(int index) throws IOException {
+            int offset = personOffsets.get(index);
+            if (offset < 0 || offset >= meetingsOffset) {
+                throw new IOException("The index of the binary address book is corrupted");
+            }
+            return offset;
+        }
+
+        /**
+         * Checks that the persons start in increasing order and before the meetings, as they are written.
+         * Only the index is read, so this is much faster than reading the persons.
+         *
+         * @throws IOException if the offsets of the persons are not in that order.
+         */
+        void checkPersonOffsets() throws IOException {
+            int previousOffset = -1;
+            for (int i = 0; i < getPersonCount(); i++) {
+                int offset = getPersonOffset(i);
+                if (offset <= previousOffset) {
+                    throw new IOException("The index of the binary address book is corrupted");
+                }
+                previousOffset = offset;
+            }
+        }
+
+        int getMeetingsOffset() {
+            return meetingsOffset;
+        }
+
+        int getIndexOffset() {
+            return indexOffset;
+        }
+    }
+}
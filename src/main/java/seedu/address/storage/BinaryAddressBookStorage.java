@@ -0,0 +1,154 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk, which is smaller and faster to
+ * load than json.
+ *
+ * The file starts with {@link #MAGIC_HEADER} and a format version byte, followed by a dictionary of every role, major
+ * and tag, the persons with their meetings, and finally every meeting. Strings are written as their length followed by
+ * their UTF-8 bytes, roles, majors and tags as their index in the dictionary, and meeting times as the number of
+ * minutes since 1 January 1970. Numbers are written in as few bytes as needed.
+ *
+ * Since format version 2, the file ends with an index of where each person starts, which lets
+ * {@link MappedAddressBook} read any person without reading the persons before it.
+ *
+ * The whole file is rewritten on every save, as there is no journal of changes like there is for json.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** Bytes at the start of every binary address book file, which a json file can never start with. */
+    static final byte[] MAGIC_HEADER = {'F', 'B', 'U', 'D'};
+
+    static final int FORMAT_VERSION = 2;
+
+    /** The oldest format version that can still be read. */
+    static final int FIRST_FORMAT_VERSION = 1;
+
+    /** The first format version whose files end with an index of the persons. */
+    static final int FIRST_INDEXED_FORMAT_VERSION = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and starts with {@link #MAGIC_HEADER}.
+     *
+     * @throws IOException if the file exists but could not be read.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return isMagicHeader(in.readNBytes(MAGIC_HEADER.length));
+        }
+    }
+
+    static boolean isMagicHeader(byte[] header) {
+        return Arrays.equals(MAGIC_HEADER, header);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            return Optional.of(BinaryAddressBookReader.read(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        writeSnapshot(new BinaryAddressBookWriter(addressBook), filePath);
+    }
+
+    /**
+     * Writes {@code snapshot} in full to a temporary file, which then replaces the file at {@code filePath}, after
+     * the old file is kept as the newest backup.
+     */
+    private static void writeSnapshot(BinaryAddressBookWriter snapshot, Path filePath) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryFilePath = FileUtil.getTemporaryFilePathFor(filePath);
+        snapshot.writeTo(temporaryFilePath);
+        AddressBookBackups.backUp(filePath);
+        FileUtil.moveAtomically(temporaryFilePath, filePath);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The whole address book is saved unless nothing has changed, and a snapshot of it is taken right away.
+     */
+    @Override
+    public PendingSave prepareAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes) {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+
+        if (changes.isEmpty() && !changes.isFullSaveRequired() && FileUtil.isFileExists(filePath)) {
+            return () -> {};
+        }
+        BinaryAddressBookWriter snapshot = new BinaryAddressBookWriter(addressBook);
+        return () -> writeSnapshot(snapshot, filePath);
+    }
+}
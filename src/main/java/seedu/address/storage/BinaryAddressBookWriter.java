@@ -0,0 +1,185 @@
+package seedu.address.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Recurrence;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an address book to a file in the compact binary format described in {@link BinaryAddressBookStorage}.
+ *
+ * Creating the writer takes an {@link AddressBookSnapshot}, so the address book may keep changing while the
+ * snapshot is written on another thread.
+ */
+class BinaryAddressBookWriter {
+
+    private final AddressBookSnapshot snapshot;
+
+    /**
+     * Creates a writer of a snapshot of {@code addressBook}.
+     */
+    BinaryAddressBookWriter(ReadOnlyAddressBook addressBook) {
+        snapshot = new AddressBookSnapshot(addressBook);
+    }
+
+    /**
+     * Writes the snapshot to {@code filePath}, replacing the file if it exists.
+     */
+    void writeTo(Path filePath) throws IOException {
+        Map<String, Integer> dictionary = buildDictionary();
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(filePath)))) {
+            out.write(BinaryAddressBookStorage.MAGIC_HEADER);
+            out.writeByte(BinaryAddressBookStorage.FORMAT_VERSION);
+
+            writeVarInt(out, dictionary.size());
+            for (String entry : dictionary.keySet()) {
+                writeString(out, entry);
+            }
+
+            List<Person> persons = snapshot.getPersons();
+            int[] personOffsets = new int[persons.size()];
+            writeVarInt(out, persons.size());
+            for (int i = 0; i < persons.size(); i++) {
+                personOffsets[i] = out.size();
+                writePerson(out, persons.get(i), snapshot.getMeetingsOfPerson(i), dictionary);
+            }
+
+            int meetingsOffset = out.size();
+            writeMeetings(out, snapshot.getMeetings());
+
+            writeIndex(out, personOffsets, meetingsOffset);
+        }
+    }
+
+    /**
+     * Writes the index described in {@link BinaryAddressBookReader.FileIndex}.
+     *
+     * @throws IOException if the file has grown too large for its offsets to fit in an int.
+     */
+    private static void writeIndex(DataOutputStream out, int[] personOffsets, int meetingsOffset)
+            throws IOException {
+        int indexOffset = out.size();
+        // The size of a DataOutputStream stops growing at Integer.MAX_VALUE, so a file that reached it is too large.
+        if (indexOffset == Integer.MAX_VALUE) {
+            throw new IOException("The address book is too large to be saved in the binary format");
+        }
+        for (int offset : personOffsets) {
+            out.writeInt(offset);
+        }
+        out.writeInt(personOffsets.length);
+        out.writeInt(meetingsOffset);
+        out.writeInt(indexOffset);
+    }
+
+    /**
+     * Returns the index of every role, major and tag in the snapshot, in order of first use.
+     * These repeat across many persons, so each is written once and referred to by its index.
+     */
+    private Map<String, Integer> buildDictionary() {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Person person : snapshot.getPersons()) {
+            dictionary.putIfAbsent(person.getRole().toString(), dictionary.size());
+            dictionary.putIfAbsent(person.getMajor().toString(), dictionary.size());
+            for (Tag tag : person.getTags()) {
+                dictionary.putIfAbsent(tag.tagName, dictionary.size());
+            }
+        }
+        return dictionary;
+    }
+
+    private static void writePerson(DataOutputStream out, Person person, List<Meeting> meetingsOfPerson,
+                                    Map<String, Integer> dictionary) throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+        writeVarInt(out, dictionary.get(person.getRole().toString()));
+        writeVarInt(out, dictionary.get(person.getMajor().toString()));
+        writeString(out, person.getAddress().value);
+
+        writeVarInt(out, person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeVarInt(out, dictionary.get(tag.tagName));
+        }
+
+        writeMeetings(out, meetingsOfPerson);
+    }
+
+    private static void writeMeetings(DataOutputStream out, List<Meeting> meetings) throws IOException {
+        writeVarInt(out, meetings.size());
+        for (Meeting meeting : meetings) {
+            writeString(out, meeting.getPersonToMeet().fullName);
+            writeVarLong(out, toEpochMinute(meeting.getStartTime()));
+            writeVarLong(out, toEpochMinute(meeting.getEndTime()));
+            writeString(out, meeting.getLocation());
+
+            Optional<Recurrence> recurrence = meeting.getRecurrence();
+            out.writeBoolean(recurrence.isPresent());
+            if (recurrence.isPresent()) {
+                writeRecurrence(out, recurrence.get());
+            }
+        }
+    }
+
+    private static void writeRecurrence(DataOutputStream out, Recurrence recurrence) throws IOException {
+        writeVarInt(out, recurrence.getIntervalDays());
+        writeVarLong(out, recurrence.getUntil().toEpochDay());
+        writeVarInt(out, recurrence.getSkippedDates().size());
+        for (LocalDate skippedDate : recurrence.getSkippedDates()) {
+            writeVarLong(out, skippedDate.toEpochDay());
+        }
+    }
+
+    /**
+     * Returns the number of minutes from 1 January 1970 00:00 to {@code dateTime}.
+     * Meeting times are only ever given to the minute, so nothing is lost.
+     */
+    private static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    /**
+     * Writes {@code value}, which must not be negative, in as few bytes as needed, seven bits at a time.
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        assert value >= 0;
+        writeUnsignedVarLong(out, value);
+    }
+
+    /**
+     * Writes {@code value} in as few bytes as needed. It is zigzag encoded first, so that small negative values stay
+     * short too.
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        writeUnsignedVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    private static void writeUnsignedVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.person.Name;
+
+/**
+ * Jackson-friendly version of {@link AddressBookChanges}, which is one entry of the address book journal.
+ */
+class JsonAdaptedAddressBookChanges {
+
+    private final List<JsonAdaptedPerson> changedPersons = new ArrayList<>();
+    private final List<String> removedPersons = new ArrayList<>();
+    private final List<JsonAdaptedMeeting> addedMeetings = new ArrayList<>();
+    private final List<JsonAdaptedMeeting> removedMeetings = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedAddressBookChanges} with the given changes.
+     */
+    @JsonCreator
+    public JsonAdaptedAddressBookChanges(@JsonProperty("changedPersons") List<JsonAdaptedPerson> changedPersons,
+                                         @JsonProperty("removedPersons") List<String> removedPersons,
+                                         @JsonProperty("addedMeetings") List<JsonAdaptedMeeting> addedMeetings,
+                                         @JsonProperty("removedMeetings") List<JsonAdaptedMeeting> removedMeetings) {
+        if (changedPersons != null) {
+            this.changedPersons.addAll(changedPersons);
+        }
+        if (removedPersons != null) {
+            this.removedPersons.addAll(removedPersons);
+        }
+        if (addedMeetings != null) {
+            this.addedMeetings.addAll(addedMeetings);
+        }
+        if (removedMeetings != null) {
+            this.removedMeetings.addAll(removedMeetings);
+        }
+    }
+
+    /**
+     * Converts a given {@code AddressBookChanges} into this class for Jackson use.
+     */
+    public JsonAdaptedAddressBookChanges(AddressBookChanges source) {
+        changedPersons.addAll(source.getChangedPersons().stream()
+                .map(JsonAdaptedPerson::new)
+                .collect(Collectors.toList()));
+        removedPersons.addAll(source.getRemovedPersons().stream()
+                .map(name -> name.fullName)
+                .collect(Collectors.toList()));
+        addedMeetings.addAll(source.getAddedMeetings().stream()
+                .map(JsonAdaptedMeeting::new)
+                .collect(Collectors.toList()));
+        removedMeetings.addAll(source.getRemovedMeetings().stream()
+                .map(JsonAdaptedMeeting::new)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted changes object into the model's {@code AddressBookChanges} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted changes.
+     */
+    public AddressBookChanges toModelType() throws IllegalValueException, CommandException {
+        AddressBookChanges changes = new AddressBookChanges();
+        for (String removedPerson : removedPersons) {
+            if (!Name.isValidName(removedPerson)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            changes.recordPersonRemoved(new Name(removedPerson));
+        }
+        for (JsonAdaptedPerson changedPerson : changedPersons) {
+            changes.recordPersonChanged(changedPerson.toModelType());
+        }
+        for (JsonAdaptedMeeting removedMeeting : removedMeetings) {
+            changes.recordMeetingRemoved(removedMeeting.toModelType());
+        }
+        for (JsonAdaptedMeeting addedMeeting : addedMeetings) {
+            changes.recordMeetingAdded(addedMeeting.toModelType());
+        }
+        return changes;
+    }
+
+}
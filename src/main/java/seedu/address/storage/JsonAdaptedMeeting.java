@@ -2,14 +2,17 @@ package seedu.address.storage;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.Meeting;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Recurrence;
 
 /**
  * Jackson-friendly version of {@link Meeting}.
@@ -17,33 +20,70 @@ import seedu.address.model.person.Name;
 class JsonAdaptedMeeting {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Meeting's %s field is missing!";
+    public static final String INVALID_DATE_TIME_MESSAGE_FORMAT = "Meeting's time %s is not in the format %s!";
 
+    private static final String DATE_TIME_PATTERN = "dd-MM-yyyy HH:mm";
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer id;
     private final String person;
     private final String startTime;
     private final String endTime;
     private final String location;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final JsonAdaptedRecurrence recurrence;
 
     /**
-     * Constructs a {@code JsonAdaptedMeeting} with the given meeting details.
+     * Constructs a {@code JsonAdaptedMeeting} with the given meeting details, where {@code id} is null for meetings
+     * that persons do not refer to, and {@code recurrence} is null for meetings that do not recur.
      */
     @JsonCreator
-    public JsonAdaptedMeeting(@JsonProperty("person") String person, @JsonProperty("phone") String startTime,
-                             @JsonProperty("email") String endTime, @JsonProperty("role") String location) {
+    public JsonAdaptedMeeting(@JsonProperty("id") Integer id, @JsonProperty("person") String person,
+                             @JsonProperty("phone") String startTime, @JsonProperty("email") String endTime,
+                             @JsonProperty("role") String location,
+                             @JsonProperty("recurrence") JsonAdaptedRecurrence recurrence) {
+        this.id = id;
         this.person = person;
         this.startTime = startTime;
         this.endTime = endTime;
         this.location = location;
+        this.recurrence = recurrence;
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedMeeting} with the given meeting details and no id.
+     */
+    public JsonAdaptedMeeting(String person, String startTime, String endTime, String location,
+                              JsonAdaptedRecurrence recurrence) {
+        this(null, person, startTime, endTime, location, recurrence);
     }
 
     /**
      * Converts a given {@code Meeting} into this class for Jackson use.
      */
     public JsonAdaptedMeeting(Meeting source) {
+        this(source, null);
+    }
+
+    /**
+     * Converts a given {@code Meeting} into this class for Jackson use, with the {@code id} that persons refer to it
+     * by.
+     */
+    public JsonAdaptedMeeting(Meeting source, Integer id) {
+        this.id = id;
         person = source.getPersonToMeet().fullName;
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm");
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DATE_TIME_PATTERN);
         startTime = source.getStartTime().format(formatter);
         endTime = source.getEndTime().format(formatter);
         location = source.getLocation();
+        recurrence = source.getRecurrence().map(JsonAdaptedRecurrence::new).orElse(null);
+    }
+
+    /**
+     * Returns the id that persons refer to this meeting by, or null if it has none.
+     */
+    public Integer getId() {
+        return id;
     }
 
     /**
@@ -52,35 +92,52 @@ class JsonAdaptedMeeting {
      * @throws IllegalValueException if there were any data constraints violated in the adapted meeting.
      */
     public Meeting toModelType() throws IllegalValueException, CommandException {
+        return toModelType(false);
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, but if {@code isTrusted}, the name of the person to meet is not validated,
+     * as it was already validated when a trusted file was saved.
+     */
+    public Meeting toModelType(boolean isTrusted) throws IllegalValueException, CommandException {
         if (person == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(person)) {
+        if (!isTrusted && !Name.isValidName(person)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(person);
+        final Name modelName = Name.ofTrusted(person);
 
         if (startTime == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     LocalDateTime.class.getSimpleName()));
         }
 
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm");
-
-        final LocalDateTime modelStartTime = LocalDateTime.parse(startTime, formatter);
+        final LocalDateTime modelStartTime = parseDateTime(startTime);
 
         if (endTime == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     LocalDateTime.class.getSimpleName()));
         }
 
-        final LocalDateTime modelEndTime = LocalDateTime.parse(endTime, formatter);
+        final LocalDateTime modelEndTime = parseDateTime(endTime);
 
         if (location == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, String.class.getSimpleName()));
         }
 
-        return new Meeting(modelName, modelStartTime, modelEndTime, location);
+        final Recurrence modelRecurrence = recurrence == null ? null : recurrence.toModelType();
+
+        return new Meeting(modelName, modelStartTime, modelEndTime, location, modelRecurrence);
+    }
+
+    private static LocalDateTime parseDateTime(String dateTime) throws IllegalValueException {
+        try {
+            return LocalDateTime.parse(dateTime, DateTimeFormatter.ofPattern(DATE_TIME_PATTERN));
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(String.format(INVALID_DATE_TIME_MESSAGE_FORMAT, dateTime,
+                    DATE_TIME_PATTERN), e);
+        }
     }
 
 }
@@ -3,10 +3,12 @@ package seedu.address.storage;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -19,6 +21,7 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Role;
+import seedu.address.model.person.exceptions.TimeClashException;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -27,6 +30,7 @@ import seedu.address.model.tag.Tag;
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_MEETING_ID = "Person's meeting %d is not in the meetings list!";
 
     private final String name;
     private final String phone;
@@ -35,17 +39,22 @@ class JsonAdaptedPerson {
     private final String major;
     private final String address;
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedMeeting> meetings = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<Integer> meetingIds = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * Constructs a {@code JsonAdaptedPerson} with the given person details, whose meetings are either given in full
+     * in {@code meetings}, or by the ids in {@code meetingIds} of meetings in the address book's meetings list.
      */
     @JsonCreator
     public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
             @JsonProperty("email") String email, @JsonProperty("role") String role,
             @JsonProperty("major") String major, @JsonProperty("address") String address,
             @JsonProperty("tags") List<JsonAdaptedTag> tags,
-            @JsonProperty("meetings") List<JsonAdaptedMeeting> meetings) {
+            @JsonProperty("meetings") List<JsonAdaptedMeeting> meetings,
+            @JsonProperty("meetingIds") List<Integer> meetingIds) {
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -58,12 +67,31 @@ class JsonAdaptedPerson {
         if (meetings != null) {
             this.meetings.addAll(meetings);
         }
+        if (meetingIds != null) {
+            this.meetingIds.addAll(meetingIds);
+        }
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and every meeting given in full.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String role, String major, String address,
+            List<JsonAdaptedTag> tags, List<JsonAdaptedMeeting> meetings) {
+        this(name, phone, email, role, major, address, tags, meetings, null);
     }
 
     /**
-     * Converts a given {@code Person} into this class for Jackson use.
+     * Converts a given {@code Person} into this class for Jackson use, with every meeting given in full.
      */
     public JsonAdaptedPerson(Person source) {
+        this(source, Map.of());
+    }
+
+    /**
+     * Converts a given {@code Person} into this class for Jackson use. Meetings in {@code meetingIds} are given by
+     * their id, and the other meetings in full.
+     */
+    public JsonAdaptedPerson(Person source, Map<Meeting, Integer> meetingIds) {
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -73,9 +101,14 @@ class JsonAdaptedPerson {
         tags.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
-        meetings.addAll(source.getMeetings().getInternalList().stream()
-                .map(JsonAdaptedMeeting::new)
-                .collect(Collectors.toList()));
+        for (Meeting meeting : source.getMeetings().getInternalList()) {
+            Integer meetingId = meetingIds.get(meeting);
+            if (meetingId != null) {
+                this.meetingIds.add(meetingId);
+            } else {
+                meetings.add(new JsonAdaptedMeeting(meeting));
+            }
+        }
     }
 
     /**
@@ -84,70 +117,106 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException, CommandException {
+        return toModelType(Map.of());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, looking up the
+     * meetings given by id in {@code meetingsById}. These meetings were validated when they were converted, so they
+     * are not validated again.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person, or a meeting
+     *     id is not in {@code meetingsById}.
+     */
+    public Person toModelType(Map<Integer, Meeting> meetingsById) throws IllegalValueException, CommandException {
+        return toModelType(meetingsById, false);
+    }
+
+    /**
+     * Similar to {@link #toModelType(Map)}, but if {@code isTrusted}, the person's values are not validated and the
+     * person's meetings are not checked for clashes, as they were already checked when a trusted file was saved.
+     * Missing values are still reported.
+     */
+    public Person toModelType(Map<Integer, Meeting> meetingsById, boolean isTrusted)
+            throws IllegalValueException, CommandException {
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
-            personTags.add(tag.toModelType());
+            personTags.add(tag.toModelType(isTrusted));
         }
 
         final List<Meeting> personMeetings = new ArrayList<>();
         for (JsonAdaptedMeeting meeting : meetings) {
-            personMeetings.add(meeting.toModelType());
+            personMeetings.add(meeting.toModelType(isTrusted));
+        }
+        for (Integer meetingId : meetingIds) {
+            Meeting meeting = meetingsById.get(meetingId);
+            if (meeting == null) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_MEETING_ID, meetingId));
+            }
+            personMeetings.add(meeting);
         }
 
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
+        if (!isTrusted && !Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.ofTrusted(name);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
         }
-        if (!Phone.isValidPhone(phone)) {
+        if (!isTrusted && !Phone.isValidPhone(phone)) {
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = Phone.ofTrusted(phone);
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
         }
-        if (!Email.isValidEmail(email)) {
+        if (!isTrusted && !Email.isValidEmail(email)) {
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = Email.ofTrusted(email);
 
         if (role == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Role.class.getSimpleName()));
         }
-        if (!Role.isValidRole(role)) {
+        if (!isTrusted && !Role.isValidRole(role)) {
             throw new IllegalValueException(Role.MESSAGE_CONSTRAINTS);
         }
-        final Role modelRole = new Role(role);
+        final Role modelRole = Role.ofTrusted(role);
 
         if (major == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Major.class.getSimpleName()));
         }
-        if (!Major.isValidMajor(major)) {
+        if (!isTrusted && !Major.isValidMajor(major)) {
             throw new IllegalValueException(Major.MESSAGE_CONSTRAINTS);
         }
-        final Major modelMajor = new Major(major);
+        final Major modelMajor = Major.ofTrusted(major);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
         }
-        if (!Address.isValidAddress(address)) {
+        if (!isTrusted && !Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = Address.ofTrusted(address);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
 
         Person toAdd = new Person(modelName, modelPhone, modelEmail, modelRole, modelMajor, modelAddress, modelTags);
 
-        for (Meeting meeting : personMeetings) {
-            toAdd.getMeetings().addMeeting(meeting);
+        if (isTrusted) {
+            toAdd.getMeetings().setAllTrusted(personMeetings);
+            return toAdd;
+        }
+
+        try {
+            toAdd.getMeetings().setAllValidated(personMeetings);
+        } catch (TimeClashException e) {
+            throw new IllegalValueException(e.getMessage(), e);
         }
 
         return toAdd;
@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Recurrence;
+
+/**
+ * Jackson-friendly version of {@link Recurrence}.
+ */
+class JsonAdaptedRecurrence {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Recurrence's %s field is missing!";
+    public static final String MESSAGE_INVALID_DATE = "Recurrence dates should be in the format dd-MM-yyyy";
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+    private final Integer intervalDays;
+    private final String until;
+    private final List<String> skippedDates = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedRecurrence} with the given recurrence details.
+     */
+    @JsonCreator
+    public JsonAdaptedRecurrence(@JsonProperty("intervalDays") Integer intervalDays,
+                                 @JsonProperty("until") String until,
+                                 @JsonProperty("skippedDates") List<String> skippedDates) {
+        this.intervalDays = intervalDays;
+        this.until = until;
+        if (skippedDates != null) {
+            this.skippedDates.addAll(skippedDates);
+        }
+    }
+
+    /**
+     * Converts a given {@code Recurrence} into this class for Jackson use.
+     */
+    public JsonAdaptedRecurrence(Recurrence source) {
+        intervalDays = source.getIntervalDays();
+        until = source.getUntil().format(FORMATTER);
+        source.getSkippedDates().stream().sorted().map(FORMATTER::format).forEach(skippedDates::add);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted recurrence object into the model's {@code Recurrence} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted recurrence.
+     */
+    public Recurrence toModelType() throws IllegalValueException {
+        if (intervalDays == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "intervalDays"));
+        }
+        if (!Recurrence.isValidInterval(intervalDays)) {
+            throw new IllegalValueException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+
+        if (until == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "until"));
+        }
+        final LocalDate modelUntil = parseDate(until);
+
+        final Set<LocalDate> modelSkippedDates = new HashSet<>();
+        for (String skippedDate : skippedDates) {
+            modelSkippedDates.add(parseDate(skippedDate));
+        }
+
+        return new Recurrence(intervalDays, modelUntil, modelSkippedDates);
+    }
+
+    private static LocalDate parseDate(String date) throws IllegalValueException {
+        try {
+            return LocalDate.parse(date, FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_DATE);
+        }
+    }
+
+}
@@ -39,10 +39,18 @@ class JsonAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
      */
     public Tag toModelType() throws IllegalValueException {
-        if (!Tag.isValidTagName(tagName)) {
+        return toModelType(false);
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, but if {@code isTrusted}, the tag name is not validated, as it was already
+     * validated when a trusted file was saved.
+     */
+    public Tag toModelType(boolean isTrusted) throws IllegalValueException {
+        if (!isTrusted && !Tag.isValidTagName(tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(tagName);
+        return Tag.ofTrusted(tagName);
     }
 
 }
@@ -0,0 +1,169 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.TimeClashException;
+
+/**
+ * Reads an address book from a json file saved in the format of {@link JsonSerializableAddressBook}, one person or
+ * meeting at a time. Each person and meeting is converted to the model's type and validated as soon as it is read,
+ * so the whole file is never held as a tree of json-friendly objects, and the memory needed is roughly that of the
+ * address book read. Persons are read in batches of {@link #PERSON_BATCH_SIZE}, and each batch is converted on several
+ * threads by a {@link ParallelPersonConverter}.
+ *
+ * The data is validated in the same way, with the same messages, as {@link JsonSerializableAddressBook#toModelType()},
+ * and every invalid person in the file is reported at once.
+ */
+class JsonAddressBookReader {
+
+    /**
+     * The number of persons read before they are converted together, which is enough to keep every core busy while
+     * only holding a few json-friendly persons at a time.
+     */
+    static final int PERSON_BATCH_SIZE = 4096;
+
+    private static final String VERSION_FIELD = "version";
+
+    private JsonAddressBookReader() {}
+
+    /**
+     * Reads the address book in the json file at {@code filePath}, in any format version up to
+     * {@link JsonSerializableAddressBook#FORMAT_VERSION}. The meetings that persons give by id must come before the
+     * persons in the file, as they do in files saved by {@link JsonAddressBookWriter}.
+     *
+     * @throws IOException if the file could not be read or is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException, CommandException {
+        return read(filePath, false, persons -> {});
+    }
+
+    /**
+     * Similar to {@link #read(Path)}, but if {@code isTrusted}, the file is known to be exactly as the app saved it,
+     * so the values in it are not validated again, and the meetings in it, which were free of clashes when it was
+     * saved, are not checked for clashes again.
+     * Each batch of persons is handed to {@code loadedPersonsHandler} once it has been converted and checked for
+     * duplicates, before the rest of the file is read.
+     */
+    static AddressBook read(Path filePath, boolean isTrusted, Consumer<List<Person>> loadedPersonsHandler)
+            throws IOException, IllegalValueException, CommandException {
+        AddressBook addressBook = new AddressBook();
+        List<Meeting> meetings = new ArrayList<>();
+        Map<Integer, Meeting> meetingsById = new HashMap<>();
+
+        try (JsonParser parser = JsonUtil.createJsonParser(Files.newInputStream(filePath))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected the address book to be a json object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (fieldName.equals(VERSION_FIELD)) {
+                    JsonSerializableAddressBook.checkVersion(readVersion(parser));
+                } else if (valueToken == JsonToken.START_ARRAY && fieldName.equals("persons")) {
+                    readPersons(parser, addressBook, meetingsById, isTrusted, loadedPersonsHandler);
+                } else if (valueToken == JsonToken.START_ARRAY && fieldName.equals("meetings")) {
+                    readMeetings(parser, meetings, meetingsById, isTrusted);
+                } else {
+                    // Unknown fields are ignored, as they are when reading a JsonSerializableAddressBook.
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        if (isTrusted) {
+            addressBook.setTrustedMeetings(meetings);
+            return addressBook;
+        }
+
+        try {
+            addressBook.setMeetings(meetings);
+        } catch (TimeClashException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the format version of the json file at {@code filePath}, which is written before anything else in the
+     * files that have one. Only the start of the file is read.
+     *
+     * @throws IOException if the file could not be read or is not in the expected format.
+     */
+    static int readFormatVersion(Path filePath) throws IOException {
+        try (JsonParser parser = JsonUtil.createJsonParser(Files.newInputStream(filePath))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected the address book to be a json object");
+            }
+            if (parser.nextToken() == JsonToken.FIELD_NAME && parser.getCurrentName().equals(VERSION_FIELD)) {
+                parser.nextToken();
+                return readVersion(parser);
+            }
+            return JsonSerializableAddressBook.UNVERSIONED_FORMAT_VERSION;
+        }
+    }
+
+    private static int readVersion(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.VALUE_NUMBER_INT) {
+            throw new JsonParseException(parser, "Expected the format version to be a whole number");
+        }
+        return parser.getIntValue();
+    }
+
+    private static void readPersons(JsonParser parser, AddressBook addressBook, Map<Integer, Meeting> meetingsById,
+            boolean isTrusted, Consumer<List<Person>> loadedPersonsHandler)
+            throws IOException, IllegalValueException, CommandException {
+        ParallelPersonConverter converter = new ParallelPersonConverter(meetingsById, isTrusted);
+        List<JsonAdaptedPerson> batch = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+            if (batch.size() == PERSON_BATCH_SIZE) {
+                addPersons(converter.convert(batch), addressBook, loadedPersonsHandler);
+                batch.clear();
+            }
+        }
+        addPersons(converter.convert(batch), addressBook, loadedPersonsHandler);
+        converter.throwIfAnyInvalid();
+    }
+
+    private static void addPersons(List<Person> persons, AddressBook addressBook,
+            Consumer<List<Person>> loadedPersonsHandler) throws IllegalValueException {
+        for (Person person : persons) {
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+        if (!persons.isEmpty()) {
+            loadedPersonsHandler.accept(persons);
+        }
+    }
+
+    private static void readMeetings(JsonParser parser, List<Meeting> meetings, Map<Integer, Meeting> meetingsById,
+            boolean isTrusted) throws IOException, IllegalValueException, CommandException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            JsonAdaptedMeeting adaptedMeeting = parser.readValueAs(JsonAdaptedMeeting.class);
+            Meeting meeting = adaptedMeeting.toModelType(isTrusted);
+            JsonSerializableAddressBook.recordMeetingId(adaptedMeeting, meeting, meetingsById);
+            meetings.add(meeting);
+        }
+    }
+}
@@ -2,9 +2,16 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -13,21 +20,69 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ *
+ * Besides the json file, which is a full snapshot of the address book, the changes made since the snapshot was
+ * written are kept in a journal next to it. Each save appends the changes made by one command to the journal as a
+ * single line, so that a small change does not rewrite the whole snapshot. Reading the address book replays the
+ * journal on top of the snapshot, and the journal is compacted into a new snapshot once it grows long.
+ *
+ * Each snapshot and the journal that follows it form a {@link JsonCheckpoint}, recorded in a manifest next to the
+ * snapshot. A snapshot that still matches its manifest is exactly as it was saved, so it is read without validating
+ * its values or checking its meetings for clashes again, and only a journal of the same checkpoint is replayed on top
+ * of it.
+ *
+ * Each snapshot replaced is kept as a backup along with its journal and manifest, see {@link AddressBookBackups}.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    /** Number of journal entries after which the journal is compacted into a new snapshot. */
+    public static final int JOURNAL_COMPACTION_THRESHOLD = 100;
+
+    public static final String JOURNAL_FILE_SUFFIX = "-journal.jsonl";
+    public static final String CHECKPOINT_FILE_SUFFIX = "-checkpoint.json";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private int journalEntryCount;
+    /** The checkpoint of the journal on disk, or null if it is not known. */
+    private Long checkpoint;
+    /** Whether the journal on disk belongs to an older checkpoint, so it must be replaced rather than appended to. */
+    private boolean isJournalStale;
 
     public JsonAddressBookStorage(Path filePath) {
         this.filePath = filePath;
     }
 
+    /**
+     * Returns the path of the journal kept next to the address book file at {@code addressBookFilePath}.
+     * For example, the journal of {@code data/findingbrUdders.json} is {@code data/findingbrUdders-journal.jsonl}.
+     */
+    public static Path getJournalFilePathFor(Path addressBookFilePath) {
+        return addressBookFilePath.resolveSibling(getBaseName(addressBookFilePath) + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the checkpoint manifest kept next to the address book file at {@code addressBookFilePath}.
+     * For example, the manifest of {@code data/findingbrUdders.json} is {@code data/findingbrUdders-checkpoint.json}.
+     */
+    public static Path getCheckpointFilePathFor(Path addressBookFilePath) {
+        return addressBookFilePath.resolveSibling(getBaseName(addressBookFilePath) + CHECKPOINT_FILE_SUFFIX);
+    }
+
+    private static String getBaseName(Path addressBookFilePath) {
+        String fileName = addressBookFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        return extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+    }
+
     public Path getAddressBookFilePath() {
         return filePath;
     }
@@ -40,25 +95,210 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     /**
      * Similar to {@link #readAddressBook()}.
      *
+     * If the file at {@code filePath} is this storage's file and was saved in an older format version, it is migrated
+     * to the current version right away, after a copy of it is kept next to it.
+     *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readAddressBook(filePath, filePath.equals(this.filePath), persons -> {});
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The persons in the snapshot are handed over once each batch of them has been converted, before the journal is
+     * replayed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookInBatches(Consumer<List<Person>> loadedPersonsHandler)
+            throws DataLoadingException {
+        requireNonNull(loadedPersonsHandler);
+        return readAddressBook(filePath, true, loadedPersonsHandler);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(Path)}, but never changes the file, even if it is in an older format version.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBookWithoutMigrating(Path filePath) throws DataLoadingException {
+        return readAddressBook(filePath, false, persons -> {});
+    }
+
+    private Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, boolean isMigrating,
+            Consumer<List<Person>> loadedPersonsHandler) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
+
+        long startTime = System.nanoTime();
+        Optional<JsonCheckpoint> manifest = readMatchingCheckpoint(filePath);
+        AddressBook addressBook;
+        int formatVersion;
+        try {
+            addressBook = JsonAddressBookReader.read(filePath, manifest.isPresent(), loadedPersonsHandler);
+            formatVersion = JsonAddressBookReader.readFormatVersion(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException | CommandException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+
+        Path journalFilePath = getJournalFilePathFor(filePath);
+        Long fileCheckpoint = manifest.map(JsonCheckpoint::getCheckpoint).orElse(null);
+        boolean isFileJournalStale = manifest.isPresent() && Files.exists(journalFilePath)
+                && !fileCheckpoint.equals(readJournalCheckpoint(journalFilePath));
+        int fileJournalEntryCount;
+        if (isFileJournalStale) {
+            // The app stopped after the snapshot of a new checkpoint was saved, but before the journal was replaced.
+            logger.info("Skipping journal file " + journalFilePath + " of an older checkpoint");
+            fileJournalEntryCount = 0;
+        } else {
+            fileJournalEntryCount = replayJournal(addressBook, journalFilePath);
+        }
+        // Saves only go to the journal of this storage's file, so reading any other file must not change its state.
+        if (filePath.equals(this.filePath)) {
+            checkpoint = fileCheckpoint;
+            isJournalStale = isFileJournalStale;
+            journalEntryCount = fileJournalEntryCount;
+        }
+        logger.info("Loaded " + filePath + (manifest.isPresent() ? " from a trusted snapshot" : "") + " in "
+                + (System.nanoTime() - startTime) / 1_000_000 + " ms");
+
+        if (isMigrating && formatVersion < JsonSerializableAddressBook.FORMAT_VERSION) {
+            migrate(addressBook, filePath, formatVersion);
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Returns the path of the copy kept of the address book file at {@code addressBookFilePath} when it is migrated
+     * from {@code formatVersion}. For example, the copy of {@code data/findingbrUdders.json} in format version 1 is
+     * {@code data/findingbrUdders-v1.json}.
+     */
+    public static Path getMigrationBackupFilePathFor(Path addressBookFilePath, int formatVersion) {
+        String fileName = addressBookFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        String extension = extensionIndex > 0 ? fileName.substring(extensionIndex) : "";
+        return addressBookFilePath.resolveSibling(baseName + "-v" + formatVersion + extension);
+    }
+
+    /**
+     * Saves {@code addressBook}, read from the file at {@code filePath} in the older {@code formatVersion} and its
+     * journal, over that file in the current format version. The new file is written in full before it replaces the
+     * old one, so the old file is left as it was if the migration fails, and is then migrated on the next save.
+     */
+    private void migrate(AddressBook addressBook, Path filePath, int formatVersion) {
+        logger.info("Migrating " + filePath + " from format version " + formatVersion + " to format version "
+                + JsonSerializableAddressBook.FORMAT_VERSION);
+        try {
+            Files.copy(filePath, getMigrationBackupFilePathFor(filePath, formatVersion),
+                    StandardCopyOption.REPLACE_EXISTING);
+            // The journal was replayed into the address book, so the new file already holds its changes.
+            long newCheckpoint = createCheckpoint();
+            writeCheckpoint(new JsonAddressBookWriter(addressBook), filePath, newCheckpoint);
+            checkpoint = newCheckpoint;
+            isJournalStale = false;
+            journalEntryCount = 0;
+        } catch (IOException e) {
+            logger.warning("Could not migrate " + filePath + ": " + e);
+        }
+    }
+
+    /**
+     * Returns the manifest of the address book file at {@code filePath} if the file still matches it, or an empty
+     * {@code Optional} if there is no such manifest, e.g. because the file was edited or saved by an older version.
+     */
+    private static Optional<JsonCheckpoint> readMatchingCheckpoint(Path filePath) {
+        Path manifestFilePath = getCheckpointFilePathFor(filePath);
+        try {
+            Optional<JsonCheckpoint> manifest = JsonUtil.readJsonFile(manifestFilePath, JsonCheckpoint.class);
+            if (manifest.isPresent() && manifest.get().matchesSnapshot(filePath)) {
+                return manifest;
+            }
+            if (manifest.isPresent()) {
+                logger.info(filePath + " does not match its checkpoint manifest, so it is validated in full");
+            }
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Ignoring checkpoint manifest " + manifestFilePath + ": " + e);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the checkpoint recorded in the first line of the journal at {@code journalFilePath}, or null if it
+     * has none, e.g. because it was saved by an older version.
+     */
+    private static Long readJournalCheckpoint(Path journalFilePath) {
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String firstLine = reader.readLine();
+            return firstLine == null ? null : JsonUtil.fromJsonString(firstLine, JsonCheckpoint.class).getCheckpoint();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Applies every entry in the journal at {@code journalFilePath} to {@code addressBook}, and returns the number of
+     * entries applied. An incomplete last entry, left behind if the app stopped while appending it, is ignored.
+     *
+     * @throws DataLoadingException if the journal could not be read or an entry could not be applied.
+     */
+    private static int replayJournal(AddressBook addressBook, Path journalFilePath) throws DataLoadingException {
+        if (!Files.exists(journalFilePath)) {
+            return 0;
+        }
+
+        List<String> entries;
+        try {
+            entries = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        int entryCount = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            if (entries.get(i).isBlank() || i == 0 && isCheckpointLine(entries.get(i))) {
+                continue;
+            }
+
+            JsonAdaptedAddressBookChanges entry;
+            try {
+                entry = JsonUtil.fromJsonString(entries.get(i), JsonAdaptedAddressBookChanges.class);
+            } catch (IOException e) {
+                if (i == entries.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry of journal file " + journalFilePath);
+                    break;
+                }
+                logger.warning("Error reading entry " + (i + 1) + " of journal file " + journalFilePath + ": " + e);
+                throw new DataLoadingException(e);
+            }
+
+            try {
+                addressBook.applyChanges(entry.toModelType());
+            } catch (IllegalValueException | CommandException | RuntimeException e) {
+                logger.info("Illegal values found in entry " + (i + 1) + " of " + journalFilePath + ": "
+                        + e.getMessage());
+                throw new DataLoadingException(e);
+            }
+            entryCount++;
+        }
+        logger.info("Replayed " + entryCount + " entries of journal file " + journalFilePath);
+        return entryCount;
+    }
 
+    private static boolean isCheckpointLine(String line) {
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
-        } catch (CommandException e) {
-            throw new RuntimeException(e);
+            return JsonUtil.fromJsonString(line, JsonCheckpoint.class).getCheckpoint() != null;
+        } catch (IOException e) {
+            return false;
         }
     }
 
@@ -76,8 +316,88 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        long newCheckpoint = createCheckpoint();
+        writeCheckpoint(new JsonAddressBookWriter(addressBook), filePath, newCheckpoint);
+        if (filePath.equals(this.filePath)) {
+            checkpoint = newCheckpoint;
+            isJournalStale = false;
+            journalEntryCount = 0;
+        }
+    }
+
+    private static long createCheckpoint() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    /**
+     * Writes {@code snapshot} to {@code filePath} as the snapshot of {@code checkpoint}, replacing the journal kept
+     * next to it.
+     *
+     * The snapshot is written in full to a temporary file, and the manifest describing it is written before it
+     * replaces the old snapshot. If the app stops before then, the old snapshot no longer matches the manifest, so it
+     * is read in full along with its journal. If the app stops after then, the new snapshot matches the manifest and
+     * the old journal, which is of an older checkpoint, is skipped.
+     * The old snapshot, journal and manifest are kept as the newest backup before any of them is replaced.
+     */
+    private static void writeCheckpoint(JsonAddressBookWriter snapshot, Path filePath, long checkpoint)
+            throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryFilePath = FileUtil.getTemporaryFilePathFor(filePath);
+        long checksum = snapshot.writeTo(temporaryFilePath);
+        AddressBookBackups.backUp(filePath);
+
+        // The manifest is written through a temporary file of its own, see FileUtil#writeToFile.
+        JsonUtil.saveJsonFile(JsonCheckpoint.ofSnapshot(checkpoint, temporaryFilePath, checksum),
+                getCheckpointFilePathFor(filePath));
+
+        FileUtil.moveAtomically(temporaryFilePath, filePath);
+        // The journal only holds changes made before this snapshot, which the snapshot already contains.
+        Files.deleteIfExists(getJournalFilePathFor(filePath));
+    }
+
+    /**
+     * Appends {@code entry} to the journal of the address book file at {@code filePath}. A new journal starts with
+     * the checkpoint it follows, unless that is not known.
+     */
+    private static void appendToJournal(Path filePath, JsonAdaptedAddressBookChanges entry, Long checkpoint)
+            throws IOException {
+        Path journalFilePath = getJournalFilePathFor(filePath);
+        String lines = JsonUtil.toCompactJsonString(entry) + System.lineSeparator();
+        if (checkpoint != null && !Files.exists(journalFilePath)) {
+            lines = JsonUtil.toCompactJsonString(new JsonCheckpoint(checkpoint, null, null)) + System.lineSeparator()
+                    + lines;
+        }
+        FileUtil.appendToFile(journalFilePath, lines);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * A snapshot of the address book, or the changes converted to their json-friendly form, is taken right away, and
+     * the journal entry count is updated as if the returned save had already been carried out.
+     */
+    @Override
+    public PendingSave prepareAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes) {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+
+        if (changes.isFullSaveRequired() || journalEntryCount >= JOURNAL_COMPACTION_THRESHOLD || isJournalStale
+                || !FileUtil.isFileExists(filePath)) {
+            JsonAddressBookWriter snapshot = new JsonAddressBookWriter(addressBook);
+            long newCheckpoint = createCheckpoint();
+            checkpoint = newCheckpoint;
+            isJournalStale = false;
+            journalEntryCount = 0;
+            return () -> writeCheckpoint(snapshot, filePath, newCheckpoint);
+        }
+        if (changes.isEmpty()) {
+            return () -> {};
+        }
+
+        JsonAdaptedAddressBookChanges entry = new JsonAdaptedAddressBookChanges(changes);
+        Long journalCheckpoint = checkpoint;
+        journalEntryCount++;
+        return () -> appendToJournal(filePath, entry, journalCheckpoint);
     }
 
 }
@@ -0,0 +1,172 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Recurrence;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an address book to a json file straight from the model, in exactly the format that
+ * {@link JsonSerializableAddressBook} is saved in, which gives each meeting in full only once. Unlike saving a
+ * {@code JsonSerializableAddressBook}, this creates neither a json-friendly copy of every person and meeting nor a
+ * String holding the whole file.
+ *
+ * Creating the writer takes an {@link AddressBookSnapshot}, so the address book may keep changing while the
+ * snapshot is written on another thread.
+ */
+class JsonAddressBookWriter {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm");
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+    private final AddressBookSnapshot snapshot;
+
+    /**
+     * Creates a writer of a snapshot of {@code addressBook}.
+     */
+    JsonAddressBookWriter(ReadOnlyAddressBook addressBook) {
+        snapshot = new AddressBookSnapshot(addressBook);
+    }
+
+    /**
+     * Writes the snapshot to {@code filePath}, replacing the file if it exists.
+     * The generator buffers what it writes, so the file is written in large chunks.
+     *
+     * @return the CRC32C checksum of the file written, as computed by {@link JsonCheckpoint#computeChecksum(Path)}.
+     */
+    long writeTo(Path filePath) throws IOException {
+        CRC32C checksum = new CRC32C();
+        try (OutputStream out = new CheckedOutputStream(Files.newOutputStream(filePath), checksum);
+                JsonGenerator generator = JsonUtil.createJsonGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeNumberField("version", JsonSerializableAddressBook.FORMAT_VERSION);
+
+            Map<Meeting, Integer> meetingIds = new HashMap<>();
+            generator.writeArrayFieldStart("meetings");
+            for (Meeting meeting : snapshot.getMeetings()) {
+                meetingIds.put(meeting, meetingIds.size());
+                writeMeeting(generator, meeting, meetingIds.get(meeting));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("persons");
+            List<Person> persons = snapshot.getPersons();
+            for (int i = 0; i < persons.size(); i++) {
+                writePerson(generator, persons.get(i), snapshot.getMeetingsOfPerson(i), meetingIds);
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Writes {@code person} with the same fields, in the same order, as {@link JsonAdaptedPerson}. The meetings of the
+     * person in {@code meetingIds} are written as their id, and the other meetings in full.
+     */
+    private static void writePerson(JsonGenerator generator, Person person, List<Meeting> meetingsOfPerson,
+            Map<Meeting, Integer> meetingIds) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", person.getName().fullName);
+        generator.writeStringField("phone", person.getPhone().value);
+        generator.writeStringField("email", person.getEmail().value);
+        generator.writeStringField("role", person.getRole().toString());
+        generator.writeStringField("major", person.getMajor().toString());
+        generator.writeStringField("address", person.getAddress().value);
+
+        generator.writeArrayFieldStart("tags");
+        for (Tag tag : person.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+
+        List<Meeting> meetingsInFull = new ArrayList<>();
+        List<Integer> idsOfMeetings = new ArrayList<>();
+        for (Meeting meeting : meetingsOfPerson) {
+            Integer meetingId = meetingIds.get(meeting);
+            if (meetingId != null) {
+                idsOfMeetings.add(meetingId);
+            } else {
+                meetingsInFull.add(meeting);
+            }
+        }
+
+        // Like JsonAdaptedPerson, empty lists of meetings are left out.
+        if (!meetingsInFull.isEmpty()) {
+            generator.writeArrayFieldStart("meetings");
+            for (Meeting meeting : meetingsInFull) {
+                writeMeeting(generator, meeting, null);
+            }
+            generator.writeEndArray();
+        }
+        if (!idsOfMeetings.isEmpty()) {
+            generator.writeArrayFieldStart("meetingIds");
+            for (int meetingId : idsOfMeetings) {
+                generator.writeNumber(meetingId);
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code meeting} with the same fields, in the same order, as {@link JsonAdaptedMeeting}, with
+     * {@code id} unless it is null. Jackson places the id and recurrence right around the person there, as all three
+     * are named by its creator while the times and location are not.
+     */
+    private static void writeMeeting(JsonGenerator generator, Meeting meeting, Integer id) throws IOException {
+        generator.writeStartObject();
+        if (id != null) {
+            generator.writeNumberField("id", id);
+        }
+        generator.writeStringField("person", meeting.getPersonToMeet().fullName);
+
+        Optional<Recurrence> recurrence = meeting.getRecurrence();
+        if (recurrence.isPresent()) {
+            generator.writeFieldName("recurrence");
+            writeRecurrence(generator, recurrence.get());
+        }
+
+        generator.writeStringField("startTime", meeting.getStartTime().format(DATE_TIME_FORMATTER));
+        generator.writeStringField("endTime", meeting.getEndTime().format(DATE_TIME_FORMATTER));
+        generator.writeStringField("location", meeting.getLocation());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code recurrence} with the same fields, in the same order, as {@link JsonAdaptedRecurrence}.
+     */
+    private static void writeRecurrence(JsonGenerator generator, Recurrence recurrence) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("intervalDays", recurrence.getIntervalDays());
+        generator.writeStringField("until", recurrence.getUntil().format(DATE_FORMATTER));
+
+        generator.writeArrayFieldStart("skippedDates");
+        List<LocalDate> skippedDates = new ArrayList<>(recurrence.getSkippedDates());
+        skippedDates.sort(null);
+        for (LocalDate skippedDate : skippedDates) {
+            generator.writeString(skippedDate.format(DATE_FORMATTER));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+}
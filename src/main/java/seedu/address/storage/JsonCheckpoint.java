@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32C;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A checkpoint of an address book saved by {@link JsonAddressBookStorage}, which pairs a snapshot with the journal of
+ * changes made after it.
+ *
+ * The checkpoint manifest kept next to the snapshot records the id of the latest checkpoint, and the size and CRC32C
+ * checksum of the snapshot as it was written. The first line of the journal records the id of the checkpoint its
+ * changes follow, without the size and checksum. A snapshot that still matches its manifest is byte for byte what the
+ * app wrote, so its values are known to be valid, and only a journal with the same id holds changes made after that
+ * snapshot.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonCheckpoint {
+
+    private static final int CHECKSUM_BUFFER_SIZE = 1 << 16;
+
+    private final Long checkpoint;
+    private final Long snapshotSize;
+    private final Long snapshotChecksum;
+
+    /**
+     * Constructs a {@code JsonCheckpoint} with the given details, where the details of the snapshot are null in the
+     * first line of a journal. A manifest saved before snapshots had checksums is read with a null checksum, so its
+     * snapshot is never taken to match it.
+     */
+    @JsonCreator
+    public JsonCheckpoint(@JsonProperty("checkpoint") Long checkpoint, @JsonProperty("snapshotSize") Long snapshotSize,
+                          @JsonProperty("snapshotChecksum") Long snapshotChecksum) {
+        this.checkpoint = checkpoint;
+        this.snapshotSize = snapshotSize;
+        this.snapshotChecksum = snapshotChecksum;
+    }
+
+    /**
+     * Constructs the manifest of checkpoint {@code checkpoint}, whose snapshot has just been written to
+     * {@code snapshotFilePath} with the CRC32C checksum {@code snapshotChecksum}.
+     */
+    public static JsonCheckpoint ofSnapshot(long checkpoint, Path snapshotFilePath, long snapshotChecksum)
+            throws IOException {
+        return new JsonCheckpoint(checkpoint, Files.size(snapshotFilePath), snapshotChecksum);
+    }
+
+    /**
+     * Returns the id of this checkpoint, or null if this is not a checkpoint, e.g. the first line of a journal saved
+     * before there were checkpoints.
+     */
+    public Long getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * Returns true if the snapshot at {@code snapshotFilePath} has the size and checksum recorded in this manifest.
+     * The whole snapshot is read to compute its checksum, unless its size already differs.
+     */
+    public boolean matchesSnapshot(Path snapshotFilePath) throws IOException {
+        return checkpoint != null && snapshotSize != null && snapshotChecksum != null
+                && Files.size(snapshotFilePath) == snapshotSize
+                && computeChecksum(snapshotFilePath) == snapshotChecksum;
+    }
+
+    /**
+     * Returns the CRC32C checksum of the file at {@code filePath}.
+     */
+    static long computeChecksum(Path filePath) throws IOException {
+        CRC32C checksum = new CRC32C();
+        byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            int bytesRead;
+            while ((bytesRead = in.read(buffer)) != -1) {
+                checksum.update(buffer, 0, bytesRead);
+            }
+        }
+        return checksum.getValue();
+    }
+}
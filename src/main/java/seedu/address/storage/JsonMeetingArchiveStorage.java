@@ -0,0 +1,85 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.Meeting;
+
+/**
+ * A class to access archived meetings stored on the hard disk as a JSON Lines file, with one meeting per line.
+ * Archiving more meetings appends lines to the end of the file, so the meetings already archived are never rewritten.
+ */
+public class JsonMeetingArchiveStorage implements MeetingArchiveStorage {
+
+    public static final String ARCHIVE_FILE_SUFFIX = "-archive.jsonl";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonMeetingArchiveStorage.class);
+
+    private Path filePath;
+
+    public JsonMeetingArchiveStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the archive file kept next to the address book file at {@code addressBookFilePath}.
+     * For example, the archive of {@code data/findingbrUdders.json} is {@code data/findingbrUdders-archive.jsonl}.
+     */
+    public static Path getArchiveFilePathFor(Path addressBookFilePath) {
+        String fileName = addressBookFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return addressBookFilePath.resolveSibling(baseName + ARCHIVE_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getMeetingArchiveFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<Meeting> readMeetingArchive() throws DataLoadingException {
+        List<Meeting> meetings = new ArrayList<>();
+        if (!Files.exists(filePath)) {
+            return meetings;
+        }
+
+        try {
+            for (String line : Files.readAllLines(filePath, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    meetings.add(JsonUtil.fromJsonString(line, JsonAdaptedMeeting.class).toModelType());
+                }
+            }
+        } catch (IOException | IllegalValueException | CommandException | DateTimeParseException e) {
+            logger.warning("Error reading from meeting archive file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return meetings;
+    }
+
+    @Override
+    public void appendToMeetingArchive(List<Meeting> meetings) throws IOException {
+        requireNonNull(meetings);
+
+        StringBuilder lines = new StringBuilder();
+        for (Meeting meeting : meetings) {
+            lines.append(JsonUtil.toCompactJsonString(new JsonAdaptedMeeting(meeting))).append(System.lineSeparator());
+        }
+        FileUtil.appendToFile(filePath, lines.toString());
+    }
+
+}
@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * The manifest of an address book saved by {@link SegmentedAddressBookStorage}, which names the files the address
+ * book is split into, relative to the folder of the manifest, and the generation of the save that wrote it.
+ */
+class JsonSegmentedAddressBookManifest {
+
+    /** The first field of every manifest, which no json address book starts with. */
+    public static final String FIRST_FIELD = "segments";
+
+    public static final String MESSAGE_MISSING_FILES = "Manifest does not name any segment or the meetings file.";
+
+    private final List<String> segments = new ArrayList<>();
+    private final String meetings;
+    private final long generation;
+
+    /**
+     * Constructs a {@code JsonSegmentedAddressBookManifest} with the given segment files and meetings file, written
+     * by the save of the given generation. Manifests written before generations were counted are of generation 0.
+     */
+    @JsonCreator
+    public JsonSegmentedAddressBookManifest(@JsonProperty(FIRST_FIELD) List<String> segments,
+                                            @JsonProperty("meetings") String meetings,
+                                            @JsonProperty("generation") Long generation) {
+        if (segments != null) {
+            this.segments.addAll(segments);
+        }
+        this.meetings = meetings;
+        this.generation = generation != null ? generation : 0;
+    }
+
+    /**
+     * Returns the file of every segment, in order.
+     */
+    public List<String> getSegments() {
+        return segments;
+    }
+
+    /**
+     * Returns the file holding the meetings of the address book.
+     */
+    public String getMeetings() {
+        return meetings;
+    }
+
+    /**
+     * Returns the generation of the save that wrote this manifest.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Checks that the manifest names the files of an address book.
+     *
+     * @throws IllegalValueException if the manifest names no segment or no meetings file.
+     */
+    public void checkFilesPresent() throws IllegalValueException {
+        if (segments.isEmpty() || meetings == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_FILES);
+        }
+    }
+
+}
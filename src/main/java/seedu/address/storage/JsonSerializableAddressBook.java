@@ -1,10 +1,12 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
@@ -14,57 +16,137 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Meeting;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.TimeClashException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ *
+ * Since format version 2, every meeting in the address book's meetings list has an id, and persons give their
+ * meetings by these ids instead of repeating them in full, so each meeting is saved and validated only once. Files
+ * saved before then have no version, and are read as format version 1, where persons give every meeting in full.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_MEETING_ID = "Meetings list contains duplicate meeting id %d.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "The data file was saved in format version %d, which is"
+            + " newer than this version of the app can read.";
 
-    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    /** The format version that address books are saved in. */
+    static final int FORMAT_VERSION = 2;
+
+    /** The format version of address books saved without a version. */
+    static final int UNVERSIONED_FORMAT_VERSION = 1;
+
+    // The meetings come before the persons, so that a file can be read in one pass with every meeting id known by
+    // the time the persons referring to it are read.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer version;
     private final List<JsonAdaptedMeeting> meetings = new ArrayList<>();
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} with the given format version, meetings and persons.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
-                                       @JsonProperty("meetings") List<JsonAdaptedMeeting> meetings) {
-        this.persons.addAll(persons);
-        this.meetings.addAll(meetings);
+    public JsonSerializableAddressBook(@JsonProperty("version") Integer version,
+                                       @JsonProperty("meetings") List<JsonAdaptedMeeting> meetings,
+                                       @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        this.version = version;
+        if (meetings != null) {
+            this.meetings.addAll(meetings);
+        }
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
     }
 
     /**
-     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use.
+     * Constructs a {@code JsonSerializableAddressBook} in the current format version with the given persons.
+     */
+    public JsonSerializableAddressBook(List<JsonAdaptedPerson> persons, List<JsonAdaptedMeeting> meetings) {
+        this(FORMAT_VERSION, meetings, persons);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use, giving every meeting of the
+     * address book an id in the order of the meetings list.
      *
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
-        meetings.addAll(source.getMeetingList().stream().map(JsonAdaptedMeeting::new).collect(Collectors.toList()));
+        version = FORMAT_VERSION;
+        Map<Meeting, Integer> meetingIds = new HashMap<>();
+        for (Meeting meeting : source.getMeetingList()) {
+            meetingIds.put(meeting, meetingIds.size());
+            meetings.add(new JsonAdaptedMeeting(meeting, meetingIds.get(meeting)));
+        }
+        for (Person person : source.getPersonList()) {
+            persons.add(new JsonAdaptedPerson(person, meetingIds));
+        }
+    }
+
+    /**
+     * Returns the format version that this address book was saved in.
+     */
+    public int getVersion() {
+        return version == null ? UNVERSIONED_FORMAT_VERSION : version;
     }
 
     /**
-     * Converts this address book into the model's {@code AddressBook} object.
+     * Throws an {@code IllegalValueException} if {@code version} is newer than {@link #FORMAT_VERSION}.
+     */
+    static void checkVersion(int version) throws IllegalValueException {
+        if (version > FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+    }
+
+    /**
+     * Records {@code meeting} in {@code meetingsById} under the id of {@code adaptedMeeting}, if it has one.
+     *
+     * @throws IllegalValueException if another meeting already has the same id.
+     */
+    static void recordMeetingId(JsonAdaptedMeeting adaptedMeeting, Meeting meeting,
+            Map<Integer, Meeting> meetingsById) throws IllegalValueException {
+        Integer id = adaptedMeeting.getId();
+        if (id != null && meetingsById.putIfAbsent(id, meeting) != null) {
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_MEETING_ID, id));
+        }
+    }
+
+    /**
+     * Converts this address book into the model's {@code AddressBook} object, converting the persons in parallel.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated, with every invalid person reported.
      */
     public AddressBook toModelType() throws IllegalValueException, CommandException {
+        checkVersion(getVersion());
         AddressBook addressBook = new AddressBook();
 
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
+        final List<Meeting> modelMeetings = new ArrayList<>();
+        final Map<Integer, Meeting> meetingsById = new HashMap<>();
+        for (JsonAdaptedMeeting jsonAdaptedMeeting : meetings) {
+            Meeting meeting = jsonAdaptedMeeting.toModelType();
+            recordMeetingId(jsonAdaptedMeeting, meeting, meetingsById);
+            modelMeetings.add(meeting);
+        }
+
+        ParallelPersonConverter converter = new ParallelPersonConverter(meetingsById);
+        List<Person> modelPersons = converter.convert(persons);
+        converter.throwIfAnyInvalid();
+        for (Person person : modelPersons) {
             if (addressBook.hasPerson(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
             addressBook.addPerson(person);
         }
 
-        for (JsonAdaptedMeeting jsonAdaptedMeeting : meetings) {
-            Meeting meeting = jsonAdaptedMeeting.toModelType();
-            addressBook.addMeeting(meeting);
+        try {
+            addressBook.setMeetings(modelMeetings);
+        } catch (TimeClashException e) {
+            throw new IllegalValueException(e.getMessage(), e);
         }
 
         return addressBook;
@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.Person;
+
+/**
+ * One segment of an address book saved by {@link SegmentedAddressBookStorage}, which is serializable to JSON format.
+ * Every person is saved with its position, which orders the persons of all segments when they are read back.
+ */
+class JsonSerializableSegment {
+
+    public static final String MESSAGE_POSITIONS_MISMATCH = "Segment has a different number of persons and positions.";
+
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final List<Long> positions = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableSegment} with the given persons and their positions.
+     */
+    @JsonCreator
+    public JsonSerializableSegment(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                                   @JsonProperty("positions") List<Long> positions) {
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        if (positions != null) {
+            this.positions.addAll(positions);
+        }
+    }
+
+    /**
+     * Returns the position of every person in this segment, in the same order as {@link #toModelType()}.
+     */
+    public List<Long> getPositions() {
+        return positions;
+    }
+
+    /**
+     * Converts the persons in this segment into the model's {@code Person} objects.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<Person> toModelType() throws IllegalValueException, CommandException {
+        if (persons.size() != positions.size()) {
+            throw new IllegalValueException(MESSAGE_POSITIONS_MISMATCH);
+        }
+
+        List<Person> modelPersons = new ArrayList<>();
+        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            modelPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        return modelPersons;
+    }
+
+}
@@ -0,0 +1,166 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Major;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+
+/**
+ * A read-only address book backed by a memory-mapped binary address book file, for opening address books too large to
+ * be read in full.
+ *
+ * Opening it only reads the dictionary and the meetings of the address book. Persons stay in the file and are only
+ * read when the person list is asked for them, e.g. when a person is shown or tested against a predicate, and the index
+ * of where each person starts is read from the mapped file too. Opening the file therefore takes the same time and
+ * memory however many persons it holds.
+ *
+ * The index is checked when the file is opened, but the persons are only checked when they are read. A person that
+ * cannot be read, which only happens if the file is corrupted, is listed as a placeholder instead, so that showing or
+ * filtering the persons never fails.
+ */
+public class MappedAddressBook implements ReadOnlyAddressBook {
+
+    /** The number of recently read persons that are kept, so that the persons on screen are not read over and over. */
+    private static final int CACHED_PERSON_COUNT = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAddressBook.class);
+
+    private final Path filePath;
+    private final BinaryAddressBookReader reader;
+    private final BinaryAddressBookReader.FileIndex index;
+    private final ObservableList<Person> persons = new MappedPersonList();
+    private final ObservableList<Meeting> meetings;
+    private final Map<Integer, Person> cachedPersons = new LinkedHashMap<>(CACHED_PERSON_COUNT, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Person> eldest) {
+            return size() > CACHED_PERSON_COUNT;
+        }
+    };
+    private final Set<Integer> unreadablePersonIndexes = new HashSet<>();
+
+    private MappedAddressBook(Path filePath, BinaryAddressBookReader reader, BinaryAddressBookReader.FileIndex index)
+            throws IOException, IllegalValueException {
+        this.filePath = filePath;
+        this.reader = reader;
+        this.index = index;
+        meetings = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(reader.readMeetingsAt(index.getMeetingsOffset())));
+    }
+
+    /**
+     * Maps the binary address book file at {@code filePath}, which must have been saved with an index of its persons.
+     *
+     * @throws DataLoadingException if the file could not be mapped, or is not a binary address book with an index.
+     */
+    public static MappedAddressBook map(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed.
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            BinaryAddressBookReader reader = BinaryAddressBookReader.open(buffer);
+            if (!reader.hasIndex()) {
+                throw new IOException("The binary address book has no index, as it was saved by an older version");
+            }
+            BinaryAddressBookReader.FileIndex index = BinaryAddressBookReader.readIndex(buffer);
+            index.checkPersonOffsets();
+            return new MappedAddressBook(filePath, reader, index);
+        } catch (IOException | IllegalValueException | IllegalArgumentException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Meeting> getMeetingList() {
+        return meetings;
+    }
+
+    @Override
+    public int getUnreadablePersonCount() {
+        return unreadablePersonIndexes.size();
+    }
+
+    /**
+     * Reads the person at {@code personIndex} from the file, unless the person was read recently.
+     * Returns a placeholder if the person could not be read.
+     */
+    private Person getPerson(int personIndex) {
+        Person person = cachedPersons.get(personIndex);
+        if (person != null) {
+            return person;
+        }
+
+        try {
+            person = reader.readPersonAt(index.getPersonOffset(personIndex));
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Could not read person " + personIndex + " from " + filePath + ": " + e);
+            unreadablePersonIndexes.add(personIndex);
+            person = createPlaceholder(personIndex);
+        }
+        cachedPersons.put(personIndex, person);
+        return person;
+    }
+
+    /**
+     * Returns the person listed in place of the person at {@code personIndex}, which could not be read.
+     */
+    private static Person createPlaceholder(int personIndex) {
+        return new Person(new Name("Unreadable Udder " + (personIndex + 1)), new Phone("000"),
+                new Email("unreadable@placeholder.invalid"), new Role("brUdder"), new Major(Major.VALID_MAJORS.get(0)),
+                new Address("Could not be read from the data file"), Collections.emptySet());
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("persons", persons.size())
+                .toString();
+    }
+
+    /**
+     * An unmodifiable list of the persons in the file, which reads each person only when it is asked for.
+     */
+    private class MappedPersonList extends ObservableListBase<Person> {
+        @Override
+        public Person get(int personIndex) {
+            return getPerson(personIndex);
+        }
+
+        @Override
+        public int size() {
+            return index.getPersonCount();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.person.Meeting;
+
+/**
+ * Represents an append-only storage for {@link seedu.address.model.MeetingArchive}.
+ */
+public interface MeetingArchiveStorage {
+
+    /**
+     * Returns the file path of the meeting archive file.
+     */
+    Path getMeetingArchiveFilePath();
+
+    /**
+     * Returns every meeting in the archive, in the order they were archived.
+     * Returns an empty list if the archive file is not found.
+     *
+     * @throws DataLoadingException if loading the meetings from storage failed.
+     */
+    List<Meeting> readMeetingArchive() throws DataLoadingException;
+
+    /**
+     * Appends {@code meetings} to the archive, leaving the meetings already in it untouched.
+     * @param meetings cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendToMeetingArchive(List<Meeting> meetings) throws IOException;
+
+}
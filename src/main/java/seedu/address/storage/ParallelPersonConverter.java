@@ -0,0 +1,178 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts {@code JsonAdaptedPerson}s into the model's {@code Person} objects on the threads of a
+ * {@link ForkJoinPool}, as validating the fields of every person takes most of the time needed to load a large address
+ * book.
+ *
+ * Persons can be converted over several calls, e.g. a batch at a time while a file is read. The persons converted are
+ * returned in the order they were given, whichever thread converted them. A person that could not be converted does
+ * not stop the others from being converted, and every such person is reported together by
+ * {@link #throwIfAnyInvalid()}.
+ */
+class ParallelPersonConverter {
+
+    /** Lists of at most this many persons are converted on a single thread, as splitting them up costs more. */
+    static final int SEQUENTIAL_THRESHOLD = 256;
+
+    static final String MESSAGE_INVALID_PERSONS = "%1$d persons in the data file are invalid:";
+    static final String MESSAGE_INVALID_PERSON = "Person %1$d: %2$s";
+
+    private final ForkJoinPool pool;
+    private final Map<Integer, Meeting> meetingsById;
+    private final boolean isTrusted;
+    private final List<String> invalidPersonMessages = new ArrayList<>();
+    private Exception firstException;
+    private int convertedCount;
+
+    /**
+     * Creates a converter that uses the common pool, which has a thread for each core but one.
+     */
+    ParallelPersonConverter() {
+        this(Map.of());
+    }
+
+    /**
+     * Creates a converter that uses the common pool, and looks up the meetings that persons give by id in
+     * {@code meetingsById}.
+     */
+    ParallelPersonConverter(Map<Integer, Meeting> meetingsById) {
+        this(meetingsById, false);
+    }
+
+    /**
+     * Creates a converter that uses the common pool, and looks up the meetings that persons give by id in
+     * {@code meetingsById}. If {@code isTrusted}, the persons are converted as by
+     * {@link JsonAdaptedPerson#toModelType(Map, boolean)} for a trusted file.
+     */
+    ParallelPersonConverter(Map<Integer, Meeting> meetingsById, boolean isTrusted) {
+        this(ForkJoinPool.commonPool(), meetingsById, isTrusted);
+    }
+
+    ParallelPersonConverter(ForkJoinPool pool) {
+        this(pool, Map.of());
+    }
+
+    ParallelPersonConverter(ForkJoinPool pool, Map<Integer, Meeting> meetingsById) {
+        this(pool, meetingsById, false);
+    }
+
+    ParallelPersonConverter(ForkJoinPool pool, Map<Integer, Meeting> meetingsById, boolean isTrusted) {
+        requireNonNull(pool);
+        requireNonNull(meetingsById);
+        this.pool = pool;
+        this.meetingsById = meetingsById;
+        this.isTrusted = isTrusted;
+    }
+
+    /**
+     * Converts {@code persons}, which come after the persons given to earlier calls, and returns the persons that could
+     * be converted in the same order. The persons that could not be converted are left out, and recorded to be
+     * reported by {@link #throwIfAnyInvalid()}.
+     */
+    List<Person> convert(List<JsonAdaptedPerson> persons) {
+        requireNonNull(persons);
+
+        Person[] converted = new Person[persons.size()];
+        Exception[] exceptions = new Exception[persons.size()];
+        ConversionTask task = new ConversionTask(persons, meetingsById, isTrusted, converted, exceptions, 0,
+                persons.size());
+        if (persons.size() <= SEQUENTIAL_THRESHOLD) {
+            task.convertAll();
+        } else {
+            pool.invoke(task);
+        }
+
+        List<Person> validPersons = new ArrayList<>(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            if (exceptions[i] == null) {
+                validPersons.add(converted[i]);
+                continue;
+            }
+            if (firstException == null) {
+                firstException = exceptions[i];
+            }
+            invalidPersonMessages.add(String.format(MESSAGE_INVALID_PERSON, convertedCount + i + 1,
+                    exceptions[i].getMessage()));
+        }
+        convertedCount += persons.size();
+        return validPersons;
+    }
+
+    /**
+     * Throws an exception if any person given so far could not be converted. The exception of the person is thrown as
+     * it is if there is only one, otherwise the message of every person, numbered from the first person given, is
+     * thrown together in an {@code IllegalValueException}.
+     */
+    void throwIfAnyInvalid() throws IllegalValueException, CommandException {
+        if (invalidPersonMessages.size() == 1) {
+            if (firstException instanceof CommandException) {
+                throw (CommandException) firstException;
+            }
+            throw (IllegalValueException) firstException;
+        }
+        if (!invalidPersonMessages.isEmpty()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_PERSONS, invalidPersonMessages.size())
+                    + "\n" + String.join("\n", invalidPersonMessages), firstException);
+        }
+    }
+
+    /**
+     * Converts the persons from {@code start} to {@code end}, splitting them in half until there are few enough for
+     * a single thread.
+     */
+    private static class ConversionTask extends RecursiveAction {
+        private final List<JsonAdaptedPerson> persons;
+        private final Map<Integer, Meeting> meetingsById;
+        private final boolean isTrusted;
+        private final Person[] converted;
+        private final Exception[] exceptions;
+        private final int start;
+        private final int end;
+
+        ConversionTask(List<JsonAdaptedPerson> persons, Map<Integer, Meeting> meetingsById, boolean isTrusted,
+                Person[] converted, Exception[] exceptions, int start, int end) {
+            this.persons = persons;
+            this.meetingsById = meetingsById;
+            this.isTrusted = isTrusted;
+            this.converted = converted;
+            this.exceptions = exceptions;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= SEQUENTIAL_THRESHOLD) {
+                convertAll();
+                return;
+            }
+            int middle = (start + end) >>> 1;
+            invokeAll(new ConversionTask(persons, meetingsById, isTrusted, converted, exceptions, start, middle),
+                    new ConversionTask(persons, meetingsById, isTrusted, converted, exceptions, middle, end));
+        }
+
+        void convertAll() {
+            for (int i = start; i < end; i++) {
+                try {
+                    converted[i] = persons.get(i).toModelType(meetingsById, isTrusted);
+                } catch (IllegalValueException | CommandException e) {
+                    exceptions[i] = e;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+/**
+ * A save that has been prepared from a snapshot of the data, and can be carried out later on any thread.
+ * The snapshot does not share any mutable state with the model, so the model may keep changing in the meantime.
+ */
+@FunctionalInterface
+public interface PendingSave {
+
+    /**
+     * Writes the snapshot to the storage.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void save() throws IOException;
+}
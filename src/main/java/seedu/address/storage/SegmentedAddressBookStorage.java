@@ -0,0 +1,519 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as json files split into segments.
+ *
+ * Persons are spread over a fixed number of segment files by the hash of their name, and the meetings of the address
+ * book are kept in a file of their own. These files are kept in a folder next to the manifest, which is the file at the
+ * address book file path and names the other files. A save only writes the segments holding persons that changed
+ * since the last save, and the meetings file if meetings were added or removed.
+ *
+ * Files are never rewritten in place. Every save is given the next generation, and writes its files under names
+ * ending with that generation before rewriting the manifest to name them, in one step. A save that stops part way,
+ * such as when the app is closed, leaves the last manifest naming only the files of the last complete save, so
+ * persons and meetings are never read from two different saves. The files no manifest names any more are deleted
+ * by the next save.
+ *
+ * Every person is saved with a position, and the persons read from all segments are put in order of position. Persons
+ * keep their position, and new persons get one between those of the persons next to them, so the persons are read
+ * back in the order they were in without rewriting the segments of the persons around them.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SEGMENT_COUNT = 16;
+
+    public static final String SEGMENT_FOLDER_SUFFIX = "-segments";
+
+    public static final String MESSAGE_DUPLICATE_POSITION = "Persons in the segments have duplicate positions.";
+
+    /** The files that saves write to the segment folder, including those written before generations were counted. */
+    private static final Pattern SAVED_FILE_NAME_PATTERN = Pattern.compile("(segment-\\d+|meetings)(-\\d+)?\\.json");
+
+    /** The distance between the positions of persons saved in full, which leaves room for persons added between. */
+    private static final long POSITION_GAP = 1L << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private Path filePath;
+    private final int segmentCount;
+
+    // The position of every person as last saved. This is null until the files at filePath have been read or saved
+    // in full, as the positions of persons saved earlier are not known before that.
+    private Map<Name, Long> savedPositions;
+    // The manifest of the last snapshot of the files at filePath, which later snapshots take the files they do not
+    // write from. This is null whenever savedPositions is.
+    private JsonSegmentedAddressBookManifest savedManifest;
+
+    public SegmentedAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_SEGMENT_COUNT);
+    }
+
+    /**
+     * Creates a storage that splits the persons into {@code segmentCount} segments, which must be positive.
+     */
+    public SegmentedAddressBookStorage(Path filePath, int segmentCount) {
+        assert segmentCount > 0;
+        this.filePath = filePath;
+        this.segmentCount = segmentCount;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and is the manifest of a segmented address book.
+     *
+     * @throws IOException if the file exists but could not be read.
+     */
+    public static boolean isManifestFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        try (InputStream in = Files.newInputStream(filePath); JsonParser parser = JsonUtil.createJsonParser(in)) {
+            return parser.nextToken() == JsonToken.START_OBJECT
+                    && parser.nextToken() == JsonToken.FIELD_NAME
+                    && parser.getCurrentName().equals(JsonSegmentedAddressBookManifest.FIRST_FIELD);
+        } catch (JsonProcessingException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the folder holding the segments of the address book whose manifest is at {@code manifestFilePath}.
+     * For example, the segments of {@code data/findingbrUdders.json} are in {@code data/findingbrUdders-segments}.
+     */
+    public static Path getSegmentFolderFor(Path manifestFilePath) {
+        String fileName = manifestFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return manifestFilePath.resolveSibling(baseName + SEGMENT_FOLDER_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<JsonSegmentedAddressBookManifest> manifest = JsonUtil.readJsonFile(filePath,
+                JsonSegmentedAddressBookManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+        logger.info("Segmented address book manifest " + filePath + " found.");
+
+        Map<Name, Long> positions = new HashMap<>();
+        AddressBook addressBook;
+        boolean isSameSegmentCount;
+        try {
+            addressBook = readSegments(filePath, manifest.get(), positions);
+            isSameSegmentCount = manifest.get().getSegments().size() == segmentCount;
+        } catch (IllegalValueException | CommandException e) {
+            logger.info("Illegal values found in segments of " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+
+        // Saving only the changed segments relies on every person being in the segment its name hashes to, which
+        // only holds if the persons were saved with as many segments as there are now.
+        if (filePath.equals(this.filePath)) {
+            savedPositions = isSameSegmentCount ? positions : null;
+            savedManifest = isSameSegmentCount ? manifest.get() : null;
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Reads the files named by {@code manifest}, and records the position of every person read in {@code positions}.
+     */
+    private static AddressBook readSegments(Path manifestFilePath, JsonSegmentedAddressBookManifest manifest,
+            Map<Name, Long> positions) throws DataLoadingException, IllegalValueException, CommandException {
+        manifest.checkFilesPresent();
+        Path folder = manifestFilePath.toAbsolutePath().getParent();
+
+        List<Map.Entry<Long, Person>> positionedPersons = new ArrayList<>();
+        for (String segment : manifest.getSegments()) {
+            JsonSerializableSegment segmentData = readFile(folder.resolve(segment), JsonSerializableSegment.class);
+            List<Person> persons = segmentData.toModelType();
+            List<Long> segmentPositions = segmentData.getPositions();
+            for (int i = 0; i < persons.size(); i++) {
+                positionedPersons.add(Map.entry(segmentPositions.get(i), persons.get(i)));
+            }
+        }
+        positionedPersons.sort(Map.Entry.comparingByKey());
+
+        AddressBook addressBook = new AddressBook();
+        long previousPosition = Long.MIN_VALUE;
+        for (Map.Entry<Long, Person> positionedPerson : positionedPersons) {
+            Person person = positionedPerson.getValue();
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            if (positionedPerson.getKey() == previousPosition) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_POSITION);
+            }
+            addressBook.addPerson(person);
+            positions.put(person.getName(), positionedPerson.getKey());
+            previousPosition = positionedPerson.getKey();
+        }
+
+        AddressBook meetings = readFile(folder.resolve(manifest.getMeetings()), JsonSerializableAddressBook.class)
+                .toModelType();
+        addressBook.setMeetings(meetings.getMeetingList());
+        return addressBook;
+    }
+
+    private static <T> T readFile(Path filePath, Class<T> classOfFile) throws DataLoadingException {
+        return JsonUtil.readJsonFile(filePath, classOfFile).orElseThrow(() ->
+                new DataLoadingException(new NoSuchFileException(filePath.toString())));
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Map<Name, Long> positions = new HashMap<>();
+        JsonSegmentedAddressBookManifest manifest = createFullManifest(filePath);
+        takeFullSnapshot(filePath, addressBook, positions, manifest).save();
+        if (filePath.equals(this.filePath)) {
+            savedPositions = positions;
+            savedManifest = manifest;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Only the segments of the changed persons are saved, and the meetings file only if meetings changed, unless the
+     * whole address book has to be saved.
+     */
+    @Override
+    public PendingSave prepareAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes) {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+
+        if (changes.isFullSaveRequired() || savedPositions == null || !FileUtil.isFileExists(filePath)) {
+            return takeFullSnapshotOfFile(addressBook);
+        }
+        if (changes.isEmpty()) {
+            return () -> {};
+        }
+
+        changes.getRemovedPersons().forEach(savedPositions::remove);
+        long[] positions = assignPositions(addressBook.getPersonList());
+        if (positions == null) {
+            logger.info("No room left between the positions of persons, saving the whole address book.");
+            return takeFullSnapshotOfFile(addressBook);
+        }
+
+        Set<Integer> changedSegments = new HashSet<>();
+        changes.getRemovedPersons().forEach(name -> changedSegments.add(getSegmentOf(name)));
+        changes.getChangedPersons().forEach(person -> changedSegments.add(getSegmentOf(person.getName())));
+        boolean haveMeetingsChanged = !changes.getAddedMeetings().isEmpty() || !changes.getRemovedMeetings().isEmpty();
+
+        savedManifest = createManifest(changedSegments, haveMeetingsChanged);
+        return takeSnapshot(filePath, addressBook, positions, changedSegments, haveMeetingsChanged, savedManifest);
+    }
+
+    private PendingSave takeFullSnapshotOfFile(ReadOnlyAddressBook addressBook) {
+        savedPositions = new HashMap<>();
+        savedManifest = createFullManifest(filePath);
+        return takeFullSnapshot(filePath, addressBook, savedPositions, savedManifest);
+    }
+
+    /**
+     * Returns the manifest of a save of the next generation that writes every file of the address book to be saved
+     * with the manifest at {@code manifestFilePath}.
+     */
+    private JsonSegmentedAddressBookManifest createFullManifest(Path manifestFilePath) {
+        long generation = getNextGeneration(manifestFilePath);
+        String segmentFolderName = getSegmentFolderFor(manifestFilePath).getFileName().toString();
+        List<String> segmentFiles = new ArrayList<>();
+        for (int i = 0; i < segmentCount; i++) {
+            segmentFiles.add(segmentFolderName + "/" + getSegmentFileName(i, generation));
+        }
+        return new JsonSegmentedAddressBookManifest(segmentFiles,
+                segmentFolderName + "/" + getMeetingsFileName(generation), generation);
+    }
+
+    /**
+     * Returns the manifest of a save of the next generation that only writes the given {@code segments}, and the
+     * meetings file if {@code includesMeetings}, keeping the other files of the last snapshot.
+     */
+    private JsonSegmentedAddressBookManifest createManifest(Set<Integer> segments, boolean includesMeetings) {
+        long generation = savedManifest.getGeneration() + 1;
+        String segmentFolderName = getSegmentFolderFor(filePath).getFileName().toString();
+        List<String> segmentFiles = new ArrayList<>(savedManifest.getSegments());
+        for (int segment : segments) {
+            segmentFiles.set(segment, segmentFolderName + "/" + getSegmentFileName(segment, generation));
+        }
+        String meetingsFile = includesMeetings
+                ? segmentFolderName + "/" + getMeetingsFileName(generation)
+                : savedManifest.getMeetings();
+        return new JsonSegmentedAddressBookManifest(segmentFiles, meetingsFile, generation);
+    }
+
+    /**
+     * Returns the generation of the next save with the manifest at {@code manifestFilePath}, which is after that of
+     * any snapshot taken by this storage and of the manifest already there, so that it never writes over their files.
+     */
+    private long getNextGeneration(Path manifestFilePath) {
+        if (manifestFilePath.equals(filePath) && savedManifest != null) {
+            return savedManifest.getGeneration() + 1;
+        }
+        try {
+            return JsonUtil.readJsonFile(manifestFilePath, JsonSegmentedAddressBookManifest.class)
+                    .map(JsonSegmentedAddressBookManifest::getGeneration).orElse(0L) + 1;
+        } catch (DataLoadingException e) {
+            // The file is not a manifest, so no file in the segment folder is in use.
+            return 1;
+        }
+    }
+
+    /**
+     * Takes a snapshot of every file of {@code addressBook} to be written with the manifest at
+     * {@code manifestFilePath}, giving the persons evenly spaced positions, which are
+     * recorded in {@code positions}.
+     */
+    private PendingSave takeFullSnapshot(Path manifestFilePath, ReadOnlyAddressBook addressBook,
+            Map<Name, Long> positions, JsonSegmentedAddressBookManifest manifest) {
+        List<Person> persons = addressBook.getPersonList();
+        long[] evenPositions = new long[persons.size()];
+        for (int i = 0; i < persons.size(); i++) {
+            evenPositions[i] = (i + 1) * POSITION_GAP;
+            positions.put(persons.get(i).getName(), evenPositions[i]);
+        }
+
+        Set<Integer> allSegments = new HashSet<>();
+        for (int i = 0; i < segmentCount; i++) {
+            allSegments.add(i);
+        }
+        return takeSnapshot(manifestFilePath, addressBook, evenPositions, allSegments, true, manifest);
+    }
+
+    /**
+     * Returns the position of every person in {@code persons}, keeping the saved positions and giving the persons
+     * without one a position between those of the persons around them. The new positions are recorded as saved.
+     * Returns null if there is no room left between two positions, or the saved positions are no longer in order.
+     */
+    private long[] assignPositions(List<Person> persons) {
+        long[] positions = new long[persons.size()];
+        Map<Name, Long> newPositions = new HashMap<>();
+        long previousPosition = 0;
+        int i = 0;
+        while (i < persons.size()) {
+            Long savedPosition = savedPositions.get(persons.get(i).getName());
+            if (savedPosition != null) {
+                if (savedPosition <= previousPosition) {
+                    return null;
+                }
+                positions[i] = savedPosition;
+                previousPosition = savedPosition;
+                i++;
+                continue;
+            }
+
+            // Persons from i to end - 1 have no position, and are spread evenly up to the next saved position.
+            int end = i;
+            Long nextPosition = null;
+            while (end < persons.size() && nextPosition == null) {
+                nextPosition = savedPositions.get(persons.get(end).getName());
+                if (nextPosition == null) {
+                    end++;
+                }
+            }
+            int newCount = end - i;
+            long upperPosition = nextPosition != null ? nextPosition : previousPosition + (newCount + 1) * POSITION_GAP;
+            long step = (upperPosition - previousPosition) / (newCount + 1);
+            if (step <= 0) {
+                return null;
+            }
+            for (int j = i; j < end; j++) {
+                positions[j] = previousPosition + (j - i + 1) * step;
+                newPositions.put(persons.get(j).getName(), positions[j]);
+            }
+            previousPosition = positions[end - 1];
+            i = end;
+        }
+
+        savedPositions.putAll(newPositions);
+        return positions;
+    }
+
+    private int getSegmentOf(Name name) {
+        return Math.floorMod(name.hashCode(), segmentCount);
+    }
+
+    /**
+     * Takes a snapshot of the given {@code segments} of {@code addressBook}, whose persons are at {@code positions},
+     * and of its meetings if asked for, to be written to the files named by {@code manifest}. The snapshot is written
+     * next to the manifest at {@code manifestFilePath}, with the manifest last so that it only names files that have
+     * already been written.
+     */
+    private PendingSave takeSnapshot(Path manifestFilePath, ReadOnlyAddressBook addressBook, long[] positions,
+            Set<Integer> segments, boolean includesMeetings, JsonSegmentedAddressBookManifest manifest) {
+        List<Integer> sortedSegments = segments.stream().sorted().collect(Collectors.toList());
+        Map<Integer, List<JsonAdaptedPerson>> segmentPersons = new HashMap<>();
+        Map<Integer, List<Long>> segmentPositions = new HashMap<>();
+        for (int segment : sortedSegments) {
+            segmentPersons.put(segment, new ArrayList<>());
+            segmentPositions.put(segment, new ArrayList<>());
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        for (int i = 0; i < persons.size(); i++) {
+            int segment = getSegmentOf(persons.get(i).getName());
+            if (segments.contains(segment)) {
+                segmentPersons.get(segment).add(new JsonAdaptedPerson(persons.get(i)));
+                segmentPositions.get(segment).add(positions[i]);
+            }
+        }
+
+        List<Path> manifestFiles = getFilesOf(manifestFilePath, manifest);
+        Map<Path, Object> files = new LinkedHashMap<>();
+        for (int segment : sortedSegments) {
+            files.put(manifestFiles.get(segment),
+                    new JsonSerializableSegment(segmentPersons.get(segment), segmentPositions.get(segment)));
+        }
+        if (includesMeetings) {
+            files.put(manifestFiles.get(segmentCount), new JsonSerializableAddressBook(new ArrayList<>(),
+                    addressBook.getMeetingList().stream().map(JsonAdaptedMeeting::new).collect(Collectors.toList())));
+        }
+
+        return () -> {
+            deleteUnusedFiles(manifestFilePath, manifestFiles);
+            for (Map.Entry<Path, Object> file : files.entrySet()) {
+                saveAtomically(file.getValue(), file.getKey());
+            }
+            // A file kept from an earlier snapshot is missing if the save that should have written it failed.
+            for (Path file : manifestFiles) {
+                if (!Files.exists(file)) {
+                    throw new NoSuchFileException(file.toString());
+                }
+            }
+            saveAtomically(manifest, manifestFilePath);
+        };
+    }
+
+    /**
+     * Returns the segment files named by {@code manifest}, followed by its meetings file, resolved against the folder
+     * of the manifest at {@code manifestFilePath}.
+     */
+    private static List<Path> getFilesOf(Path manifestFilePath, JsonSegmentedAddressBookManifest manifest) {
+        Path folder = manifestFilePath.toAbsolutePath().getParent();
+        List<Path> files = new ArrayList<>();
+        for (String segment : manifest.getSegments()) {
+            files.add(folder.resolve(segment).normalize());
+        }
+        files.add(folder.resolve(manifest.getMeetings()).normalize());
+        return files;
+    }
+
+    /**
+     * Deletes the files in the segment folder of the manifest at {@code manifestFilePath} that are named neither by
+     * that manifest nor in {@code newFiles}, which are left behind by earlier saves and by saves that stopped part way.
+     * Nothing is deleted if the manifest there cannot be read, as the files it names are not known.
+     */
+    private static void deleteUnusedFiles(Path manifestFilePath, List<Path> newFiles) throws IOException {
+        Path segmentFolder = getSegmentFolderFor(manifestFilePath);
+        if (!Files.isDirectory(segmentFolder)) {
+            return;
+        }
+
+        Set<Path> usedFiles = new HashSet<>(newFiles);
+        try {
+            Optional<JsonSegmentedAddressBookManifest> manifest = JsonUtil.readJsonFile(manifestFilePath,
+                    JsonSegmentedAddressBookManifest.class);
+            if (manifest.isPresent()) {
+                manifest.get().checkFilesPresent();
+                usedFiles.addAll(getFilesOf(manifestFilePath, manifest.get()));
+            }
+        } catch (DataLoadingException | IllegalValueException e) {
+            logger.info("Files named by " + manifestFilePath + " are not known, so none are deleted: "
+                    + e.getMessage());
+            return;
+        }
+
+        List<Path> unusedFiles;
+        try (Stream<Path> files = Files.list(segmentFolder)) {
+            unusedFiles = files.filter(file -> SAVED_FILE_NAME_PATTERN.matcher(file.getFileName().toString()).matches())
+                    .filter(file -> !usedFiles.contains(file.toAbsolutePath().normalize()))
+                    .collect(Collectors.toList());
+        }
+        for (Path file : unusedFiles) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static String getSegmentFileName(int segment, long generation) {
+        return String.format("segment-%03d-%d.json", segment, generation);
+    }
+
+    private static String getMeetingsFileName(long generation) {
+        return "meetings-" + generation + ".json";
+    }
+
+    /**
+     * Saves {@code data} to {@code filePath}, which {@link FileUtil#writeToFile(Path, String)} replaces in one step.
+     */
+    private static void saveAtomically(Object data, Path filePath) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.saveJsonFile(data, filePath);
+    }
+}
@@ -2,17 +2,19 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Meeting;
 
 /**
  * API of the Storage component
  */
-public interface Storage extends AddressBookStorage, UserPrefsStorage {
+public interface Storage extends AddressBookStorage, UserPrefsStorage, MeetingArchiveStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataLoadingException;
@@ -29,4 +31,20 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Returns the address book data for viewing only, which reads persons from the data file only when they are
+     * needed if the file is in the binary format. Otherwise, the whole file is read as by {@link #readAddressBook()},
+     * except that the file is never changed.
+     * Returns {@code Optional.empty()} if the data file is not found.
+     *
+     * @throws DataLoadingException if the loading of data from the data file failed.
+     */
+    Optional<ReadOnlyAddressBook> mapAddressBook() throws DataLoadingException;
+
+    @Override
+    List<Meeting> readMeetingArchive() throws DataLoadingException;
+
+    @Override
+    void appendToMeetingArchive(List<Meeting> meetings) throws IOException;
+
 }
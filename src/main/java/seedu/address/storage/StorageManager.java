@@ -1,15 +1,22 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.Person;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -19,13 +26,26 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private MeetingArchiveStorage meetingArchiveStorage;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}, which
+     * keeps archived meetings in a file next to the address book file.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, new JsonMeetingArchiveStorage(
+                JsonMeetingArchiveStorage.getArchiveFilePathFor(addressBookStorage.getAddressBookFilePath())));
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage}, {@code UserPrefStorage} and
+     * {@code MeetingArchiveStorage}.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          MeetingArchiveStorage meetingArchiveStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.meetingArchiveStorage = meetingArchiveStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -58,10 +78,94 @@ public class StorageManager implements Storage {
         return readAddressBook(addressBookStorage.getAddressBookFilePath());
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * The format of the file is detected from its first bytes, so a file saved in either format can be read whatever
+     * format the data is saved in. The data is saved in the configured format from the next save onwards.
+     */
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        return getAddressBookReaderFor(filePath).readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookInBatches(Consumer<List<Person>> loadedPersonsHandler)
+            throws DataLoadingException {
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        logger.fine("Attempting to read data from file: " + filePath);
+        return getAddressBookReaderFor(filePath).readAddressBookInBatches(loadedPersonsHandler);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> mapAddressBook() throws DataLoadingException {
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        AddressBookFormat fileFormat = getFormatOfFile(filePath);
+        if (fileFormat == AddressBookFormat.JSON) {
+            // A json file in an older format version must be left as it is too, so it is not migrated.
+            return new JsonAddressBookStorage(filePath).readAddressBookWithoutMigrating(filePath);
+        }
+        if (fileFormat != AddressBookFormat.BINARY) {
+            return readAddressBook(filePath);
+        }
+
+        logger.fine("Attempting to map data file: " + filePath);
+        return Optional.of(MappedAddressBook.map(filePath));
+    }
+
+    /**
+     * Returns a storage of the address book file at {@code filePath} which saves in the given {@code format}.
+     */
+    public static AddressBookStorage createAddressBookStorage(AddressBookFormat format, Path filePath) {
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case SEGMENTED:
+            return new SegmentedAddressBookStorage(filePath);
+        default:
+            return new JsonAddressBookStorage(filePath);
+        }
+    }
+
+    /**
+     * Returns the format of the address book file at {@code filePath}, detected from its first bytes.
+     */
+    private static AddressBookFormat getFormatOfFile(Path filePath) throws DataLoadingException {
+        try {
+            if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+                return AddressBookFormat.BINARY;
+            }
+            if (SegmentedAddressBookStorage.isManifestFile(filePath)) {
+                return AddressBookFormat.SEGMENTED;
+            }
+            return AddressBookFormat.JSON;
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static AddressBookFormat getFormatOfStorage(AddressBookStorage addressBookStorage) {
+        if (addressBookStorage instanceof BinaryAddressBookStorage) {
+            return AddressBookFormat.BINARY;
+        }
+        if (addressBookStorage instanceof SegmentedAddressBookStorage) {
+            return AddressBookFormat.SEGMENTED;
+        }
+        return AddressBookFormat.JSON;
+    }
+
+    /**
+     * Returns the storage that can read the address book file at {@code filePath}.
+     */
+    private AddressBookStorage getAddressBookReaderFor(Path filePath) throws DataLoadingException {
+        AddressBookFormat fileFormat = getFormatOfFile(filePath);
+        if (fileFormat == getFormatOfStorage(addressBookStorage) || !Files.exists(filePath)) {
+            return addressBookStorage;
+        }
+        logger.info("Data file " + filePath + " is in a different format from the one configured, and will be"
+                + " converted on the next save.");
+        return createAddressBookStorage(fileFormat, filePath);
     }
 
     @Override
@@ -75,4 +179,29 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public PendingSave prepareAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes) {
+        logger.fine("Preparing to save changes to data file: " + getAddressBookFilePath());
+        return addressBookStorage.prepareAddressBookChanges(addressBook, changes);
+    }
+
+    // ================ MeetingArchive methods ==============================
+
+    @Override
+    public Path getMeetingArchiveFilePath() {
+        return meetingArchiveStorage.getMeetingArchiveFilePath();
+    }
+
+    @Override
+    public List<Meeting> readMeetingArchive() throws DataLoadingException {
+        logger.fine("Attempting to read archived meetings from file: " + getMeetingArchiveFilePath());
+        return meetingArchiveStorage.readMeetingArchive();
+    }
+
+    @Override
+    public void appendToMeetingArchive(List<Meeting> meetings) throws IOException {
+        logger.fine("Attempting to append " + meetings.size() + " meetings to file: " + getMeetingArchiveFilePath());
+        meetingArchiveStorage.appendToMeetingArchive(meetings);
+    }
+
 }
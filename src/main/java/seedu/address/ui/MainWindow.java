@@ -124,6 +124,7 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(resultDisplay::setFeedbackToUser);
 
         detailPanel = new DetailPanel();
         logic.getModel().addObserver(detailPanel);
@@ -133,7 +134,8 @@ public class MainWindow extends UiPart<Stage> {
         });
 
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(),
+                logic.addressBookLoadingProperty());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -0,0 +1,103 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+public class ValidationUtilTest {
+
+    /** Characters that most valid values are made of, which half of the random characters are picked from. */
+    private static final String ALPHANUMERICS = "aZ09";
+    /** Characters that the validation regexes treat differently, including non-ASCII letters, digits and breaks. */
+    private static final String ALPHABET = "aZ09_-+.@ \t\n\r\u000B\f\u0085\u2028\u2029\u00e9\u0661";
+    private static final int RANDOM_STRING_COUNT = 200_000;
+    private static final int MAX_RANDOM_STRING_LENGTH = 8;
+
+    @Test
+    public void isAlphanumericWithSpaces() {
+        assertFalse(ValidationUtil.isAlphanumericWithSpaces(""));
+        assertFalse(ValidationUtil.isAlphanumericWithSpaces(" alice"));
+        assertFalse(ValidationUtil.isAlphanumericWithSpaces("al_ice"));
+        assertFalse(ValidationUtil.isAlphanumericWithSpaces("ren\u00e9e")); // non-ASCII letter
+
+        assertTrue(ValidationUtil.isAlphanumericWithSpaces("a"));
+        assertTrue(ValidationUtil.isAlphanumericWithSpaces("Alice Pauline 2nd "));
+    }
+
+    @Test
+    public void isDigits() {
+        assertFalse(ValidationUtil.isDigits("12", 3));
+        assertFalse(ValidationUtil.isDigits("12a", 3));
+        assertFalse(ValidationUtil.isDigits("12\u0663", 3)); // non-ASCII digit
+
+        assertTrue(ValidationUtil.isDigits("123", 3));
+        assertTrue(ValidationUtil.isDigits("", 0));
+    }
+
+    @Test
+    public void isSingleLineNotStartingWithWhitespace() {
+        assertFalse(ValidationUtil.isSingleLineNotStartingWithWhitespace(""));
+        assertFalse(ValidationUtil.isSingleLineNotStartingWithWhitespace("\tCOM1"));
+        assertFalse(ValidationUtil.isSingleLineNotStartingWithWhitespace("COM1\nLevel 2"));
+
+        assertTrue(ValidationUtil.isSingleLineNotStartingWithWhitespace("#08-111, COM1 "));
+        assertTrue(ValidationUtil.isSingleLineNotStartingWithWhitespace("\u00a0COM1")); // no-break space is not \s
+    }
+
+    @Test
+    public void isEmailAddress() {
+        assertFalse(ValidationUtil.isEmailAddress("a@b-c")); // last label of 1-character runs
+        assertFalse(ValidationUtil.isEmailAddress("a@bc.d"));
+        assertFalse(ValidationUtil.isEmailAddress("a+@bc"));
+        assertFalse(ValidationUtil.isEmailAddress("a@b--cd"));
+
+        assertTrue(ValidationUtil.isEmailAddress("a@b-cd"));
+        assertTrue(ValidationUtil.isEmailAddress("a.b_c@d.e-f.gh"));
+    }
+
+    @Test
+    public void validators_randomStrings_sameAsValidationRegex() {
+        assertSameAsRegex(Name::isValidName, Name.VALIDATION_REGEX);
+        assertSameAsRegex(Phone::isValidPhone, Phone.VALIDATION_REGEX);
+        assertSameAsRegex(Email::isValidEmail, Email.VALIDATION_REGEX);
+        assertSameAsRegex(Address::isValidAddress, Address.VALIDATION_REGEX);
+        assertSameAsRegex(Meeting::isValidLocation, Meeting.VALIDATION_REGEX);
+        assertSameAsRegex(Tag::isValidTagName, Tag.VALIDATION_REGEX);
+    }
+
+    /**
+     * Asserts that {@code validator} accepts exactly the random strings that {@code regex} fully matches.
+     * The strings are built from {@link #ALPHANUMERICS} and {@link #ALPHABET}, with a fixed seed so that any failure
+     * can be reproduced.
+     */
+    private static void assertSameAsRegex(Predicate<String> validator, String regex) {
+        Pattern pattern = Pattern.compile(regex);
+        Random random = new Random(regex.hashCode());
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < RANDOM_STRING_COUNT; i++) {
+            builder.setLength(0);
+            int length = random.nextInt(MAX_RANDOM_STRING_LENGTH + 1);
+            for (int j = 0; j < length; j++) {
+                String characters = random.nextBoolean() ? ALPHANUMERICS : ALPHABET;
+                builder.append(characters.charAt(random.nextInt(characters.length())));
+            }
+            String test = builder.toString();
+            if (pattern.matcher(test).matches() != validator.test(test)) {
+                fail("Differs from " + regex + " for \"" + test + "\"");
+            }
+        }
+    }
+}
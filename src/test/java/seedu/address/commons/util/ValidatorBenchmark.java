@@ -0,0 +1,73 @@
+package seedu.address.commons.util;
+
+import static seedu.address.testutil.BenchmarkUtil.measure;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.BenchmarkUtil.Measurement;
+
+/**
+ * Measures the time taken and memory allocated by each validator of the model, against fully matching its validation
+ * regex with {@code String#matches} as the validators used to.
+ *
+ * This is not a test, as the times depend on the machine it runs on. Run it with {@code gradlew benchmarkValidators},
+ * or {@code gradlew benchmarkValidators --args=<number of validations per run>}.
+ */
+public class ValidatorBenchmark {
+
+    private static final int DEFAULT_VALIDATION_COUNT = 1_000_000;
+
+    /**
+     * Prints the median time and the bytes allocated per validation, with the validation regex and with the validator,
+     * for typical values of each field.
+     */
+    public static void main(String[] args) throws Exception {
+        int validationCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_VALIDATION_COUNT;
+
+        System.out.println("Validating each field " + validationCount + " times per run");
+        System.out.println("field\t\tregex ns\tregex bytes\tvalidator ns\tvalidator bytes\tspeedup");
+        compare("name", Name.VALIDATION_REGEX, Name::isValidName, validationCount,
+                "Alex Yeoh", "Charlotte Oliveiro", "R@chel");
+        compare("phone", Phone.VALIDATION_REGEX, Phone::isValidPhone, validationCount,
+                "87438807", "93210283", "+651234");
+        compare("email", Email.VALIDATION_REGEX, Email::isValidEmail, validationCount,
+                "alexyeoh@example.com", "theoneandjohnny@u.nus.edu", "example.com");
+        compare("address", Address.VALIDATION_REGEX, Address::isValidAddress, validationCount,
+                "Blk 30 Geylang Street 29, #06-40", "Blk 436 Serangoon Gardens Street 26, #16-43", " ");
+        compare("location", Meeting.VALIDATION_REGEX, Meeting::isValidLocation, validationCount,
+                "COM1", "Starbucks @ UTown", " ");
+        compare("tag", Tag.VALIDATION_REGEX, Tag::isValidTagName, validationCount,
+                "friends", "colleagues", "#friend");
+    }
+
+    private static void compare(String field, String regex, Predicate<String> validator, int validationCount,
+            String... values) throws Exception {
+        Measurement regexResult = measure(() -> validate(value -> value.matches(regex), values, validationCount));
+        Measurement validatorResult = measure(() -> validate(validator, values, validationCount));
+        System.out.printf("%-8s\t%.1f\t\t%.1f\t\t%.1f\t\t%.1f\t\t%.1fx%n", field,
+                regexResult.getMedianNanos() / validationCount,
+                regexResult.getMeanAllocatedBytes() / validationCount,
+                validatorResult.getMedianNanos() / validationCount,
+                validatorResult.getMeanAllocatedBytes() / validationCount,
+                regexResult.getMedianNanos() / validatorResult.getMedianNanos());
+    }
+
+    private static void validate(Predicate<String> validator, String[] values, int validationCount) {
+        int validCount = 0;
+        for (int i = 0; i < validationCount; i++) {
+            if (validator.test(values[i % values.length])) {
+                validCount++;
+            }
+        }
+        // Uses the result, so that the validations cannot be skipped.
+        if (validCount < 0) {
+            throw new AssertionError();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class BackgroundLoaderTest {
+
+    /** Tasks for the thread that owns the model, which this test runs on. */
+    private final Queue<Runnable> modelTasks = new ConcurrentLinkedQueue<>();
+    private final CompletableFuture<Void> readAllowed = new CompletableFuture<>();
+    private final AtomicInteger loadedCount = new AtomicInteger();
+    private final Model model = new ModelManager();
+
+    @Test
+    public void start_personsRead_shownBeforeWholeAddressBookRead() throws Exception {
+        BackgroundLoader loader = createLoader();
+        loader.start();
+
+        runNextModelTask();
+        assertEquals(List.of(ALICE, BENSON), model.getFilteredPersonList());
+        assertTrue(loader.isLoading());
+        assertTrue(loader.loadingProperty().get());
+
+        readAllowed.complete(null);
+        runNextModelTask();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertFalse(loader.loadingProperty().get());
+        assertEquals(1, loadedCount.get());
+    }
+
+    @Test
+    public void awaitLoaded_stillReading_waitsForWholeAddressBook() throws Exception {
+        BackgroundLoader loader = createLoader();
+        loader.start();
+        CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS).execute(() -> readAllowed.complete(null));
+
+        loader.awaitLoaded();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+
+        // Persons read earlier, and the end of loading, are not applied again
+        runNextModelTask();
+        runNextModelTask();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertEquals(1, loadedCount.get());
+    }
+
+    private BackgroundLoader createLoader() {
+        return new BackgroundLoader(model, modelTasks::add, loadedPersonsHandler -> {
+            loadedPersonsHandler.accept(List.of(ALICE, BENSON));
+            readAllowed.join();
+            return getTypicalAddressBook();
+        }, loadedCount::incrementAndGet);
+    }
+
+    /**
+     * Runs the next task for the thread that owns the model, waiting for it to be given if needed.
+     */
+    private void runNextModelTask() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (modelTasks.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        modelTasks.remove().run();
+    }
+}
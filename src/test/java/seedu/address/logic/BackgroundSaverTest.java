@@ -0,0 +1,137 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.storage.PendingSave;
+
+public class BackgroundSaverTest {
+
+    private static final long LONG_DEBOUNCE_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final AtomicInteger unsavedCount = new AtomicInteger();
+    private final AtomicInteger writeCount = new AtomicInteger();
+
+    @Test
+    public void requestSave_burstOfRequests_savedOnce() throws Exception {
+        CompletableFuture<Integer> savedCount = new CompletableFuture<>();
+        BackgroundSaver<PendingSave> saver = new BackgroundSaver<>(Runnable::run, 100, () -> {
+            int count = unsavedCount.getAndSet(0);
+            return count == 0 ? null : () -> {
+                writeCount.incrementAndGet();
+                savedCount.complete(count);
+            };
+        }, (snapshot, e) -> {});
+
+        for (int i = 0; i < 5; i++) {
+            unsavedCount.incrementAndGet();
+            saver.requestSave();
+        }
+
+        assertEquals(5, (int) savedCount.get(5, TimeUnit.SECONDS));
+        saver.flush();
+        assertEquals(1, writeCount.get());
+    }
+
+    @Test
+    public void flush_saveRequested_savedWithoutWaiting() throws Exception {
+        BackgroundSaver<PendingSave> saver = new BackgroundSaver<>(Runnable::run, LONG_DEBOUNCE_MILLIS,
+                this::takeSnapshot, (snapshot, e) -> {});
+        unsavedCount.incrementAndGet();
+        saver.requestSave();
+
+        saver.flush();
+        assertEquals(1, writeCount.get());
+
+        // saves requested after flushing are ignored
+        unsavedCount.incrementAndGet();
+        saver.requestSave();
+        saver.flush();
+        assertEquals(1, writeCount.get());
+    }
+
+    @Test
+    public void requestSave_saveFails_failureHandled() throws Exception {
+        IOException exception = new IOException("dummy IO exception");
+        PendingSave failingSave = () -> {
+            throw exception;
+        };
+        CompletableFuture<IOException> handledException = new CompletableFuture<>();
+        BackgroundSaver<PendingSave> saver = new BackgroundSaver<>(Runnable::run, 0, () -> failingSave,
+                (snapshot, e) -> {
+                    assertSame(failingSave, snapshot);
+                    handledException.complete(e);
+                });
+
+        saver.requestSave();
+        assertSame(exception, handledException.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void flush_saveFails_throwsIoException() {
+        BackgroundSaver<PendingSave> saver = new BackgroundSaver<>(Runnable::run, LONG_DEBOUNCE_MILLIS, () -> () -> {
+            throw new IOException("dummy IO exception");
+        }, (snapshot, e) -> {});
+
+        assertThrows(IOException.class, "dummy IO exception", saver::flush);
+    }
+
+    @Test
+    public void requestSave_saveThrowsRuntimeException_failureHandled() throws Exception {
+        CompletableFuture<IOException> handledException = new CompletableFuture<>();
+        BackgroundSaver<PendingSave> saver = new BackgroundSaver<>(Runnable::run, 0, () -> () -> {
+            throw new IllegalStateException("dummy runtime exception");
+        }, (snapshot, e) -> handledException.complete(e));
+
+        saver.requestSave();
+        assertEquals("dummy runtime exception", handledException.get(5, TimeUnit.SECONDS).getCause().getMessage());
+    }
+
+    @Test
+    public void flush_failureNotHandledYet_unsavedDataSaved() throws Exception {
+        // Tasks for the thread that owns the model are only run when the test runs them, like tasks that are still
+        // waiting to run when the app exits.
+        BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+        AtomicInteger attemptCount = new AtomicInteger();
+        BackgroundSaver<PendingSave> saver = new BackgroundSaver<>(modelTasks::add, 0, () -> {
+            if (unsavedCount.getAndSet(0) == 0) {
+                return null;
+            }
+            return () -> {
+                if (attemptCount.incrementAndGet() == 1) {
+                    throw new IOException("dummy IO exception");
+                }
+                writeCount.incrementAndGet();
+            };
+        }, (snapshot, e) -> unsavedCount.incrementAndGet());
+        unsavedCount.incrementAndGet();
+        saver.requestSave();
+
+        // Takes the snapshot, whose save fails in the background
+        modelTasks.poll(5, TimeUnit.SECONDS).run();
+        Runnable failureHandling = modelTasks.poll(5, TimeUnit.SECONDS);
+
+        saver.flush();
+        assertEquals(1, writeCount.get());
+
+        // The failure was already handled by flushing, so it is not handled again
+        failureHandling.run();
+        assertEquals(0, unsavedCount.get());
+        assertTrue(modelTasks.isEmpty());
+    }
+
+    private PendingSave takeSnapshot() {
+        return unsavedCount.getAndSet(0) == 0 ? null : writeCount::incrementAndGet;
+    }
+}
@@ -1,7 +1,10 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_READ_ONLY;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -10,11 +13,19 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.ROLE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,9 +33,11 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -32,6 +45,7 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.PendingSave;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.PersonBuilder;
 
@@ -72,6 +86,107 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommand_dataNotSaved() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(temporaryFolder.resolve("findingbrUdders.json")));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ROLE_DESC_AMY
+                + MAJOR_DESC_AMY + ADDRESS_DESC_AMY);
+        assertTrue(Files.exists(temporaryFolder.resolve("findingbrUdders.json")));
+    }
+
+    @Test
+    public void archivePastMeetings_nothingToArchive_dataNotSaved() throws Exception {
+        logic.archivePastMeetings();
+        assertFalse(Files.exists(temporaryFolder.resolve("findingbrUdders.json")));
+    }
+
+    @Test
+    public void execute_readOnlyModel_onlyCommandsNotModifyingDataRun() throws Exception {
+        model = ModelManager.readOnly(getTypicalAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("findingbrUdders.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+
+        assertEquals(ListCommand.MESSAGE_SUCCESS, logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+        assertThrows(CommandException.class, MESSAGE_READ_ONLY, () -> logic.execute("delete 1"));
+        assertThrows(CommandException.class, MESSAGE_READ_ONLY, () -> logic.archivePastMeetings());
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+        assertFalse(Files.exists(temporaryFolder.resolve("findingbrUdders.json")));
+    }
+
+    @Test
+    public void execute_backgroundSaving_savedByFlush() throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("findingbrUdders.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage, Runnable::run);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ROLE_DESC_AMY
+                + MAJOR_DESC_AMY + ADDRESS_DESC_AMY);
+        logic.flushSaves();
+
+        assertEquals(model.getAddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void execute_backgroundSaveFails_failureReported() throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("findingbrUdders.json")) {
+                    @Override
+                    public PendingSave prepareAddressBookChanges(ReadOnlyAddressBook addressBook,
+                            AddressBookChanges changes) {
+                        return () -> {
+                            throw DUMMY_IO_EXCEPTION;
+                        };
+                    }
+                }, new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage, Runnable::run);
+        CompletableFuture<String> reportedMessage = new CompletableFuture<>();
+        logic.setSaveFailureHandler(reportedMessage::complete);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ROLE_DESC_AMY
+                + MAJOR_DESC_AMY + ADDRESS_DESC_AMY);
+
+        assertEquals(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()),
+                reportedMessage.get(5, TimeUnit.SECONDS));
+        // The failed changes are saved again before exiting
+        assertThrows(CommandException.class, () -> logic.flushSaves());
+    }
+
+    @Test
+    public void execute_addressBookLoadingInBackground_waitsForAllDataAndSavesNothing() throws Exception {
+        Path filePath = temporaryFolder.resolve("findingbrUdders.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        Queue<Runnable> modelTasks = new ConcurrentLinkedQueue<>();
+        LogicManager logicManager = new LogicManager(model, storage, modelTasks::add);
+        CompletableFuture<Void> readAllowed = new CompletableFuture<>();
+        logicManager.loadAddressBookInBackground(loadedPersonsHandler -> {
+            loadedPersonsHandler.accept(List.of(ALICE));
+            readAllowed.join();
+            return getTypicalAddressBook();
+        }, () -> {});
+        assertTrue(logicManager.addressBookLoadingProperty().get());
+
+        // Commands that do not need the data run right away
+        assertEquals(HelpCommand.SHOWING_HELP_MESSAGE,
+                logicManager.execute(HelpCommand.COMMAND_WORD).getFeedbackToUser());
+
+        CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS).execute(() -> readAllowed.complete(null));
+        logicManager.execute(ListCommand.COMMAND_WORD);
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertFalse(logicManager.addressBookLoadingProperty().get());
+
+        // Persons read while loading are not added again, and nothing has been modified since loading
+        modelTasks.forEach(Runnable::run);
+        logicManager.flushSaves();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertFalse(Files.exists(filePath));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -154,9 +269,11 @@ public class LogicManagerTest {
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
             @Override
-            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
-                    throws IOException {
-                throw e;
+            public PendingSave prepareAddressBookChanges(ReadOnlyAddressBook addressBook,
+                    AddressBookChanges changes) {
+                return () -> {
+                    throw e;
+                };
             }
         };
 
@@ -0,0 +1,114 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ArchiveCommand.
+ */
+public class ArchiveCommandTest {
+
+    private Model model;
+    private Person person;
+    private Meeting pastMeeting;
+    private Meeting futureMeeting;
+
+    @BeforeEach
+    public void setUp() throws CommandException {
+        person = new PersonBuilder().withName("Archive Person").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(person);
+        model = new ModelManager(addressBook, new UserPrefs());
+        person = model.getFilteredPersonList().get(0);
+
+        LocalDateTime now = LocalDateTime.now();
+        pastMeeting = new Meeting(person.getName(), now.minusDays(40), now.minusDays(40).plusHours(1), "COM1");
+        futureMeeting = new Meeting(person.getName(), now.plusDays(1), now.plusDays(1).plusHours(1), "COM2");
+        model.addMeeting(person, pastMeeting);
+        model.addMeeting(person, futureMeeting);
+    }
+
+    @Test
+    public void execute_meetingsEndedBeforeCutoff_movedToArchive() throws CommandException {
+        CommandResult result = new ArchiveCommand(30).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith("Archived 1 meeting(s)"));
+        assertFalse(model.hasMeeting(pastMeeting));
+        assertFalse(person.getMeetings().contains(pastMeeting));
+        assertTrue(model.hasMeeting(futureMeeting));
+        assertEquals(List.of(pastMeeting), model.getMeetingArchive().getMeetings());
+        assertEquals(List.of(pastMeeting), model.getMeetingArchive().getUnsavedMeetings());
+    }
+
+    @Test
+    public void execute_noMeetingsEndedBeforeCutoff_nothingArchived() throws CommandException {
+        CommandResult result = new ArchiveCommand(50).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith("There are no meetings that ended before"));
+        assertTrue(model.hasMeeting(pastMeeting));
+        assertTrue(model.getMeetingArchive().getMeetings().isEmpty());
+    }
+
+    @Test
+    public void execute_defaultCutoffFromUserPrefs_success() throws CommandException {
+        new ArchiveCommand().execute(model);
+
+        assertFalse(model.hasMeeting(pastMeeting));
+    }
+
+    @Test
+    public void execute_archivingTurnedOff_throwsCommandException() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMeetingArchiveCutoffDays(0);
+        model.setUserPrefs(userPrefs);
+
+        assertCommandFailure(new ArchiveCommand(), model, ArchiveCommand.MESSAGE_NO_CUTOFF);
+    }
+
+    @Test
+    public void equals() {
+        ArchiveCommand archiveFirstCommand = new ArchiveCommand(30);
+        ArchiveCommand archiveSecondCommand = new ArchiveCommand(60);
+
+        // same object -> returns true
+        assertTrue(archiveFirstCommand.equals(archiveFirstCommand));
+
+        // same values -> returns true
+        assertTrue(archiveFirstCommand.equals(new ArchiveCommand(30)));
+        assertTrue(new ArchiveCommand().equals(new ArchiveCommand()));
+
+        // different types -> returns false
+        assertFalse(archiveFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(archiveFirstCommand.equals(null));
+
+        // different cutoff -> returns false
+        assertFalse(archiveFirstCommand.equals(archiveSecondCommand));
+        assertFalse(archiveFirstCommand.equals(new ArchiveCommand()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ArchiveCommand archiveCommand = new ArchiveCommand(30);
+        String expected = ArchiveCommand.class.getCanonicalName() + "{days=30}";
+        assertEquals(expected, archiveCommand.toString());
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.Name;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ArchivedMeetingsCommand.
+ */
+public class ArchivedMeetingsCommandTest {
+
+    private Model model;
+    private Meeting first;
+    private Meeting second;
+
+    @BeforeEach
+    public void setUp() throws CommandException {
+        model = new ModelManager();
+        Name name = new Name("Archived Person");
+        first = new Meeting(name, LocalDateTime.of(2024, 1, 9, 9, 0), LocalDateTime.of(2024, 1, 9, 10, 0), "COM1");
+        second = new Meeting(name, LocalDateTime.of(2024, 3, 1, 9, 0), LocalDateTime.of(2024, 3, 1, 10, 0), "COM2");
+        model.getMeetingArchive().setMeetings(List.of(second, first));
+    }
+
+    @Test
+    public void execute_noArchivedMeetings_success() {
+        assertEquals(ArchivedMeetingsCommand.MESSAGE_NO_MEETINGS,
+                new ArchivedMeetingsCommand().execute(new ModelManager()).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_allArchivedMeetings_listedByStartTime() {
+        String expectedMessage = ArchivedMeetingsCommand.MESSAGE_SUCCESS + "\n"
+                + "1. Meeting with Archived Person " + first + "\n"
+                + "2. Meeting with Archived Person " + second + "\n";
+        assertEquals(expectedMessage, new ArchivedMeetingsCommand().execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_dateRange_listsOnlyMeetingsOnThoseDates() {
+        String expectedMessage = String.format(ArchivedMeetingsCommand.MESSAGE_SUCCESS_BETWEEN,
+                "1 February 2024", "1 March 2024") + "\n"
+                + "1. Meeting with Archived Person " + second + "\n";
+        assertEquals(expectedMessage, new ArchivedMeetingsCommand(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1))
+                .execute(model).getFeedbackToUser());
+
+        assertEquals(String.format(ArchivedMeetingsCommand.MESSAGE_NO_MEETINGS_BETWEEN, "1 May 2024", "1 June 2024"),
+                new ArchivedMeetingsCommand(LocalDate.of(2024, 5, 1), LocalDate.of(2024, 6, 1))
+                        .execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        ArchivedMeetingsCommand rangeCommand = new ArchivedMeetingsCommand(LocalDate.of(2024, 2, 1),
+                LocalDate.of(2024, 3, 1));
+
+        // same object -> returns true
+        assertTrue(rangeCommand.equals(rangeCommand));
+
+        // same values -> returns true
+        assertTrue(rangeCommand.equals(new ArchivedMeetingsCommand(LocalDate.of(2024, 2, 1),
+                LocalDate.of(2024, 3, 1))));
+
+        // null -> returns false
+        assertFalse(rangeCommand.equals(null));
+
+        // different range -> returns false
+        assertFalse(rangeCommand.equals(new ArchivedMeetingsCommand()));
+    }
+}
@@ -58,7 +58,8 @@ public class EditMeetingDescriptorTest {
                 + editMeetingDescriptor.getName().orElse(null) + ", startTime="
                 + editMeetingDescriptor.getStartTime().orElse(null) + ", endTime="
                 + editMeetingDescriptor.getEndTime().orElse(null) + ", location="
-                + editMeetingDescriptor.getLocation().orElse(null) + "}";
+                + editMeetingDescriptor.getLocation().orElse(null) + ", skippedDates="
+                + editMeetingDescriptor.getSkippedDates().orElse(null) + "}";
         assertEquals(expected, editMeetingDescriptor.toString());
     }
 }
@@ -4,7 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.Messages.MESSAGE_UNREADABLE_PERSONS;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
@@ -20,10 +22,15 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ObservableList;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Meeting;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonContainsKeywordsPredicate;
 
 /**
@@ -281,6 +288,31 @@ public class FindCommandTest {
         assertEquals(Collections.emptyList(), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_unreadablePersons_throwsCommandException() {
+        ReadOnlyAddressBook corruptedAddressBook = new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<Person> getPersonList() {
+                return getTypicalAddressBook().getPersonList();
+            }
+
+            @Override
+            public ObservableList<Meeting> getMeetingList() {
+                return getTypicalAddressBook().getMeetingList();
+            }
+
+            @Override
+            public int getUnreadablePersonCount() {
+                return 2;
+            }
+        };
+        Model readOnlyModel = ModelManager.readOnly(corruptedAddressBook, new UserPrefs());
+        FindCommand command = new FindCommand(new PersonContainsKeywordsPredicate("Alice", null, null, null, null,
+                null, null));
+        assertThrows(CommandException.class, String.format(MESSAGE_UNREADABLE_PERSONS, 2), () ->
+                command.execute(readOnlyModel));
+    }
+
     @Test
     public void toStringMethod() {
         PersonContainsKeywordsPredicate predicate =
@@ -0,0 +1,140 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for FreeSlotCommand.
+ */
+public class FreeSlotCommandTest {
+
+    private static final LocalDateTime SEARCH_START = LocalDateTime.of(2024, 10, 21, 0, 0);
+    private static final LocalDateTime SEARCH_END = LocalDateTime.of(2024, 10, 23, 0, 0);
+    private static final LocalTime NINE_AM = LocalTime.of(9, 0);
+    private static final LocalTime SIX_PM = LocalTime.of(18, 0);
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() throws CommandException {
+        model = new ModelManager(new AddressBook(), new UserPrefs());
+        Person person = new PersonBuilder().build();
+        model.addPerson(person);
+        // 21 Oct: busy 09:00-10:00 and 10:30-17:00
+        addMeeting(person, LocalDateTime.of(2024, 10, 21, 9, 0), LocalDateTime.of(2024, 10, 21, 10, 0));
+        addMeeting(person, LocalDateTime.of(2024, 10, 21, 10, 30), LocalDateTime.of(2024, 10, 21, 17, 0));
+        // 22 Oct: busy 08:00-12:00
+        addMeeting(person, LocalDateTime.of(2024, 10, 22, 8, 0), LocalDateTime.of(2024, 10, 22, 12, 0));
+    }
+
+    private void addMeeting(Person person, LocalDateTime startTime, LocalDateTime endTime) throws CommandException {
+        model.addMeeting(person, new Meeting(person.getName(), startTime, endTime, "COM1"));
+    }
+
+    @Test
+    public void execute_gapsWithinWorkingHours_success() {
+        FreeSlotCommand command = new FreeSlotCommand(Duration.ofMinutes(30), SEARCH_START, SEARCH_END,
+                NINE_AM, SIX_PM, 3);
+        String expectedMessage = String.format(FreeSlotCommand.MESSAGE_SUCCESS, 30,
+                "1. From 10:00 AM, 21 October 2024 to 10:30 AM, 21 October 2024\n"
+                + "2. From 5:00 PM, 21 October 2024 to 6:00 PM, 21 October 2024\n"
+                + "3. From 12:00 PM, 22 October 2024 to 6:00 PM, 22 October 2024\n");
+        assertCommandSuccess(command, model, expectedMessage, model);
+    }
+
+    @Test
+    public void execute_shortGapsSkipped_success() {
+        FreeSlotCommand command = new FreeSlotCommand(Duration.ofMinutes(90), SEARCH_START, SEARCH_END,
+                NINE_AM, SIX_PM, 1);
+        String expectedMessage = String.format(FreeSlotCommand.MESSAGE_SUCCESS, 90,
+                "1. From 12:00 PM, 22 October 2024 to 6:00 PM, 22 October 2024\n");
+        assertCommandSuccess(command, model, expectedMessage, model);
+    }
+
+    @Test
+    public void execute_noDailyLimits_gapSpansMidnight() {
+        FreeSlotCommand command = new FreeSlotCommand(Duration.ofHours(10), SEARCH_START, SEARCH_END,
+                LocalTime.MIDNIGHT, LocalTime.MIDNIGHT, 1);
+        String expectedMessage = String.format(FreeSlotCommand.MESSAGE_SUCCESS, 600,
+                "1. From 5:00 PM, 21 October 2024 to 8:00 AM, 22 October 2024\n");
+        assertCommandSuccess(command, model, expectedMessage, model);
+    }
+
+    @Test
+    public void execute_noFreeSlot_success() {
+        FreeSlotCommand command = new FreeSlotCommand(Duration.ofHours(7), SEARCH_START, SEARCH_END,
+                NINE_AM, SIX_PM, 1);
+        String expectedMessage = String.format(FreeSlotCommand.MESSAGE_NO_FREE_SLOTS, 420,
+                "12:00 AM, 21 October 2024", "12:00 AM, 23 October 2024");
+        assertCommandSuccess(command, model, expectedMessage, model);
+    }
+
+    @Test
+    public void execute_searchEndInPast_noFreeSlot() {
+        // Without a start, the search starts when the command is executed, which is after the end
+        FreeSlotCommand command = new FreeSlotCommand(Duration.ofMinutes(60), null, SEARCH_END,
+                LocalTime.MIDNIGHT, LocalTime.MIDNIGHT, 1);
+        String feedback = command.execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith("There is no free slot of at least 60 minutes from "));
+        assertTrue(feedback.endsWith(" to 12:00 AM, 23 October 2024."));
+    }
+
+    @Test
+    public void equals() {
+        FreeSlotCommand command = new FreeSlotCommand(Duration.ofMinutes(30), SEARCH_START, SEARCH_END,
+                NINE_AM, SIX_PM, 1);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new FreeSlotCommand(Duration.ofMinutes(30), SEARCH_START, SEARCH_END,
+                NINE_AM, SIX_PM, 1)));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // different duration -> returns false
+        assertFalse(command.equals(new FreeSlotCommand(Duration.ofMinutes(60), SEARCH_START, SEARCH_END,
+                NINE_AM, SIX_PM, 1)));
+
+        // different search start -> returns false
+        assertFalse(command.equals(new FreeSlotCommand(Duration.ofMinutes(30), null, SEARCH_END,
+                NINE_AM, SIX_PM, 1)));
+
+        // different count -> returns false
+        assertFalse(command.equals(new FreeSlotCommand(Duration.ofMinutes(30), SEARCH_START, SEARCH_END,
+                NINE_AM, SIX_PM, 2)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        FreeSlotCommand command = new FreeSlotCommand(Duration.ofMinutes(30), SEARCH_START, SEARCH_END,
+                NINE_AM, SIX_PM, 1);
+        String expected = FreeSlotCommand.class.getCanonicalName() + "{duration=" + Duration.ofMinutes(30)
+                + ", searchStart=" + SEARCH_START + ", searchEnd=" + SEARCH_END + ", dayStart=" + NINE_AM
+                + ", dayEnd=" + SIX_PM + ", count=1}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -1,9 +1,12 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -66,4 +69,41 @@ public class MeetingsCommandTest {
                 .execute(expectedModel).getFeedbackToUser());
         assertEquals(actualCommandResult, expectedCommandResult);
     }
+
+    @Test
+    public void execute_dateRange_listsOnlyMeetingsOnThoseDates() throws CommandException {
+        Person person = new PersonBuilder().withName("Range Person").build();
+        Meeting first = new Meeting(person.getName(), LocalDateTime.of(2024, 10, 9, 9, 0),
+                LocalDateTime.of(2024, 10, 9, 10, 0), "COM1");
+        Meeting second = new Meeting(person.getName(), LocalDateTime.of(2024, 10, 10, 23, 0),
+                LocalDateTime.of(2024, 10, 11, 1, 0), "COM2");
+        Meeting third = new Meeting(person.getName(), LocalDateTime.of(2024, 10, 12, 9, 0),
+                LocalDateTime.of(2024, 10, 12, 10, 0), "COM3");
+        model.addMeeting(person, first);
+        model.addMeeting(person, second);
+        model.addMeeting(person, third);
+
+        // meeting running past midnight is listed on the next day
+        String expectedMessage = String.format(MeetingsCommand.MESSAGE_SUCCESS_BETWEEN, "11 October 2024",
+                "11 October 2024") + "\n2. Meeting with Range Person " + second + "\n";
+        assertCommandSuccess(new MeetingsCommand(LocalDate.of(2024, 10, 11), LocalDate.of(2024, 10, 11)), model,
+                expectedMessage, model);
+
+        expectedMessage = String.format(MeetingsCommand.MESSAGE_NO_MEETINGS_BETWEEN, "13 October 2024",
+                "14 October 2024");
+        assertCommandSuccess(new MeetingsCommand(LocalDate.of(2024, 10, 13), LocalDate.of(2024, 10, 14)), model,
+                expectedMessage, model);
+    }
+
+    @Test
+    public void equals() {
+        MeetingsCommand listAll = new MeetingsCommand();
+        MeetingsCommand listOneDay = new MeetingsCommand(LocalDate.of(2024, 10, 10), LocalDate.of(2024, 10, 10));
+
+        assertTrue(listAll.equals(new MeetingsCommand()));
+        assertTrue(listOneDay.equals(new MeetingsCommand(LocalDate.of(2024, 10, 10), LocalDate.of(2024, 10, 10))));
+        assertFalse(listAll.equals(listOneDay));
+        assertFalse(listOneDay.equals(new MeetingsCommand(LocalDate.of(2024, 10, 10), LocalDate.of(2024, 10, 11))));
+        assertFalse(listAll.equals(null));
+    }
 }
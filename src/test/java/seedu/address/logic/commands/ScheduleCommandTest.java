@@ -9,6 +9,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -19,6 +20,8 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.MeetingArchive;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -118,6 +121,11 @@ public class ScheduleCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addLoadedPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -173,6 +181,41 @@ public class ScheduleCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public String listMeetings(LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Meeting> archiveMeetingsEndedBefore(LocalDateTime cutoff) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public MeetingArchive getMeetingArchive() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookChanges getUnsavedChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getModificationCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isReadOnly() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Meeting> getOccurrencesBetween(LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public int getMeetingSize() {
             throw new AssertionError("This method should not be called.");
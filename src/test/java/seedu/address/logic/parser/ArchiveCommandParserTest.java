@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ArchiveCommand;
+
+public class ArchiveCommandParserTest {
+    private ArchiveCommandParser parser = new ArchiveCommandParser();
+
+    @Test
+    public void parse_emptyArgs_returnsArchiveCommand() {
+        assertParseSuccess(parser, "  ", new ArchiveCommand());
+    }
+
+    @Test
+    public void parse_validDays_returnsArchiveCommand() {
+        assertParseSuccess(parser, " 30 ", new ArchiveCommand(30));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ArchiveCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " 0", expectedMessage);
+        assertParseFailure(parser, " -5", expectedMessage);
+        assertParseFailure(parser, " thirty", expectedMessage);
+    }
+}
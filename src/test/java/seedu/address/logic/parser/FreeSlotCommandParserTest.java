@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FreeSlotCommand;
+
+public class FreeSlotCommandParserTest {
+    private FreeSlotCommandParser parser = new FreeSlotCommandParser();
+
+    @Test
+    public void parse_durationOnly_returnsFreeSlotCommand() {
+        assertParseSuccess(parser, "60", new FreeSlotCommand(Duration.ofMinutes(60), null, null,
+                LocalTime.MIDNIGHT, LocalTime.MIDNIGHT, 1));
+    }
+
+    @Test
+    public void parse_allFieldsPresent_returnsFreeSlotCommand() {
+        assertParseSuccess(parser, "90 st/21-10-2024 00:00 et/27-10-2024 23:59 from/09:00 to/18:00 c/3",
+                new FreeSlotCommand(Duration.ofMinutes(90), LocalDateTime.of(2024, 10, 21, 0, 0),
+                        LocalDateTime.of(2024, 10, 27, 23, 59), LocalTime.of(9, 0), LocalTime.of(18, 0), 3));
+    }
+
+    @Test
+    public void parse_invalidDuration_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, "0", expectedMessage);
+        assertParseFailure(parser, "a", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidCount_throwsParseException() {
+        assertParseFailure(parser, "60 c/0", ParserUtil.MESSAGE_INVALID_POSITIVE_INTEGER);
+    }
+
+    @Test
+    public void parse_endBeforeStart_throwsParseException() {
+        assertParseFailure(parser, "60 st/22-10-2024 00:00 et/21-10-2024 00:00",
+                FreeSlotCommandParser.MESSAGE_INVALID_SEARCH_RANGE);
+        assertParseFailure(parser, "60 from/18:00 to/09:00", FreeSlotCommandParser.MESSAGE_INVALID_DAY_RANGE);
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.MeetingsCommand;
+
+public class MeetingsCommandParserTest {
+    private MeetingsCommandParser parser = new MeetingsCommandParser();
+
+    @Test
+    public void parse_emptyArgs_returnsMeetingsCommand() {
+        assertParseSuccess(parser, "  ", new MeetingsCommand());
+    }
+
+    @Test
+    public void parse_validDateRange_returnsMeetingsCommand() {
+        assertParseSuccess(parser, " from/10-10-2024 to/17-10-2024",
+                new MeetingsCommand(LocalDate.of(2024, 10, 10), LocalDate.of(2024, 10, 17)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MeetingsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " from/10-10-2024", expectedMessage);
+        assertParseFailure(parser, " 1 from/10-10-2024 to/17-10-2024", expectedMessage);
+        assertParseFailure(parser, " from/17-10-2024 to/10-10-2024", MeetingsCommandParser.MESSAGE_INVALID_DATE_RANGE);
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.Meeting;
+
+public class AddressBookChangesTest {
+
+    private final AddressBookChanges changes = new AddressBookChanges();
+
+    @Test
+    public void recordMeetingAdded_thenRemoved_cancelsOut() throws CommandException {
+        Meeting meeting = new Meeting(ALICE.getName(), LocalDateTime.of(2024, 10, 9, 9, 0),
+                LocalDateTime.of(2024, 10, 9, 10, 0), "COM1");
+
+        changes.recordMeetingAdded(meeting);
+        changes.recordMeetingRemoved(meeting);
+        assertTrue(changes.isEmpty());
+
+        changes.recordMeetingRemoved(meeting);
+        changes.recordMeetingAdded(meeting);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void recordPersonRemoved_afterChanged_onlyRemovalKept() {
+        changes.recordPersonChanged(ALICE);
+        changes.recordPersonChanged(BOB);
+        changes.recordPersonRemoved(ALICE.getName());
+
+        assertEquals(List.of(BOB), List.copyOf(changes.getChangedPersons()));
+        assertEquals(Set.of(ALICE.getName()), changes.getRemovedPersons());
+    }
+
+    @Test
+    public void clear_fullSaveRequired_becomesEmpty() {
+        changes.recordAddressBookReplaced();
+        changes.recordPersonChanged(ALICE);
+        assertFalse(changes.isEmpty());
+        assertTrue(changes.isFullSaveRequired());
+
+        changes.clear();
+        assertTrue(changes.isEmpty());
+        assertFalse(changes.isFullSaveRequired());
+    }
+}
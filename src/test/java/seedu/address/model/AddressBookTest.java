@@ -2,13 +2,16 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -17,6 +20,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Meeting;
 import seedu.address.model.person.Person;
@@ -79,6 +83,37 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void removePerson_personWithMeetings_removesOnlyTheirMeetingsInOneChange() throws Exception {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BOB);
+        LocalDateTime startTime = LocalDateTime.of(2024, 10, 9, 9, 0);
+        Meeting aliceFirstMeeting = new Meeting(ALICE.getName(), startTime, startTime.plusHours(1), "COM1");
+        Meeting bobMeeting = new Meeting(BOB.getName(), startTime.plusHours(1), startTime.plusHours(2), "COM1");
+        Meeting aliceSecondMeeting = new Meeting(ALICE.getName(), startTime.plusHours(2), startTime.plusHours(3),
+                "COM1");
+        addressBook.addMeeting(aliceFirstMeeting);
+        addressBook.addMeeting(bobMeeting);
+        addressBook.addMeeting(aliceSecondMeeting);
+
+        int[] changeCount = {0};
+        addressBook.getMeetingList().addListener((ListChangeListener<Meeting>) change -> changeCount[0]++);
+        addressBook.removePerson(ALICE);
+
+        assertEquals(Collections.singletonList(bobMeeting), addressBook.getMeetingList());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void getModificationCount_afterModification_changes() {
+        long initialCount = addressBook.getModificationCount();
+        addressBook.hasPerson(ALICE);
+        assertEquals(initialCount, addressBook.getModificationCount());
+
+        addressBook.addPerson(ALICE);
+        assertNotEquals(initialCount, addressBook.getModificationCount());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
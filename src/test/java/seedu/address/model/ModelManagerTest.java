@@ -93,6 +93,18 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void readOnly_addressBookNotCopied() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        ModelManager readOnlyModelManager = ModelManager.readOnly(addressBook, new UserPrefs());
+
+        assertTrue(readOnlyModelManager.isReadOnly());
+        assertFalse(modelManager.isReadOnly());
+        assertTrue(readOnlyModelManager.getAddressBook() == addressBook);
+        assertEquals(addressBook.getPersonList(), readOnlyModelManager.getFilteredPersonList());
+        assertEquals(addressBook.getMeetingSize(), readOnlyModelManager.getMeetingSize());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -1,11 +1,17 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -120,4 +126,86 @@ public class MeetingTest {
             throw new RuntimeException("Error while creating the meeting: " + e.getMessage(), e);
         }
     }
+
+    @Test
+    public void hashCode_sameLocationDifferentTimes_differentHashCode() throws CommandException {
+        Meeting meeting = new Meeting(name, startTime, endTime, location);
+        Meeting sameMeeting = new Meeting(new Name("A Valid Name"), startTime, endTime, location);
+        Meeting laterMeeting = new Meeting(name, startTime.plusDays(1), endTime.plusDays(1), location);
+
+        assertEquals(meeting.hashCode(), sameMeeting.hashCode());
+        assertNotEquals(meeting.hashCode(), laterMeeting.hashCode());
+    }
+
+    @Test
+    public void constructor_invalidRecurrence_throwsCommandException() {
+        // occurrences would overlap each other
+        Recurrence everyDay = new Recurrence(1, LocalDate.of(2024, 8, 30), Collections.emptySet());
+        assertThrows(CommandException.class, () -> new Meeting(name, startTime, startTime.plusHours(25), location,
+                everyDay));
+
+        // ends before the first occurrence
+        Recurrence endedEarlier = new Recurrence(7, LocalDate.of(2024, 7, 29), Collections.emptySet());
+        assertThrows(CommandException.class, () -> new Meeting(name, startTime, endTime, location, endedEarlier));
+    }
+
+    @Test
+    public void isOverlap_recurringMeetingAndSingleMeeting() throws CommandException {
+        // every Tuesday 11:00 to 12:00 until 27 August 2024, except on 13 August 2024
+        Meeting weekly = new Meeting(name, startTime, endTime, location,
+                new Recurrence(7, LocalDate.of(2024, 8, 27), Set.of(LocalDate.of(2024, 8, 13))));
+
+        // overlaps with a later occurrence -> returns true
+        Meeting onThirdTuesday = new Meeting(name, startTime.plusWeeks(3).plusMinutes(30),
+                endTime.plusWeeks(3).plusMinutes(30), location);
+        assertTrue(weekly.isOverlap(onThirdTuesday));
+        assertTrue(onThirdTuesday.isOverlap(weekly));
+
+        // between occurrences -> returns false
+        assertFalse(weekly.isOverlap(new Meeting(name, startTime.plusDays(1), endTime.plusDays(1), location)));
+
+        // on a skipped date -> returns false
+        assertFalse(weekly.isOverlap(new Meeting(name, startTime.plusWeeks(2), endTime.plusWeeks(2), location)));
+
+        // after the last occurrence -> returns false
+        assertFalse(weekly.isOverlap(new Meeting(name, startTime.plusWeeks(5), endTime.plusWeeks(5), location)));
+    }
+
+    @Test
+    public void isOverlap_twoRecurringMeetings() throws CommandException {
+        LocalDate until = LocalDate.of(2025, 7, 30);
+        Meeting weekly = new Meeting(name, startTime, endTime, location,
+                new Recurrence(7, until, Collections.emptySet()));
+
+        // every 14 days, but on a different weekday -> never overlaps
+        Meeting fortnightly = new Meeting(name, startTime.plusDays(3), endTime.plusDays(3), location,
+                new Recurrence(14, until, Collections.emptySet()));
+        assertFalse(weekly.isOverlap(fortnightly));
+
+        // every 3 days, which falls on the same weekday every 21 days -> overlaps
+        Meeting everyThreeDays = new Meeting(name, startTime.plusDays(1), endTime.plusDays(1), location,
+                new Recurrence(3, until, Collections.emptySet()));
+        assertTrue(weekly.isOverlap(everyThreeDays));
+        assertTrue(everyThreeDays.isOverlap(weekly));
+
+        // only overlapping occurrence is skipped -> does not overlap
+        Meeting skipped = new Meeting(name, startTime.plusDays(1), endTime.plusDays(1), location,
+                new Recurrence(3, LocalDate.of(2024, 8, 6), Set.of(LocalDate.of(2024, 8, 6))));
+        assertFalse(weekly.isOverlap(skipped));
+    }
+
+    @Test
+    public void getOccurrencesBetween_recurringMeeting_returnsOccurrencesInPeriod() throws CommandException {
+        Meeting weekly = new Meeting(name, startTime, endTime, location,
+                new Recurrence(7, LocalDate.of(2024, 12, 31), Set.of(LocalDate.of(2024, 8, 13))));
+
+        List<Meeting> occurrences = weekly.getOccurrencesBetween(startTime.plusWeeks(1).plusMinutes(30),
+                startTime.plusWeeks(3));
+        assertEquals(List.of(new Meeting(name, startTime.plusWeeks(1), endTime.plusWeeks(1), location)), occurrences);
+
+        // a meeting that does not recur is its own only occurrence
+        Meeting meeting = new Meeting(name, startTime, endTime, location);
+        assertEquals(List.of(meeting), meeting.getOccurrencesBetween(startTime.minusDays(1), endTime));
+        assertTrue(meeting.getOccurrencesBetween(endTime, endTime.plusDays(1)).isEmpty());
+    }
 }
@@ -0,0 +1,77 @@
+package seedu.address.model.person;
+
+import static seedu.address.testutil.BenchmarkUtil.measureMedianNanos;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Measures the time taken by {@link Meetings} to insert a large number of meetings in shuffled order, and to move a
+ * meeting from one end of the full list to the other with {@link Meetings#setMeeting(Meeting, Meeting)}.
+ *
+ * This is not a test, as the times depend on the machine it runs on. Run it with {@code gradlew benchmarkMeetings},
+ * or {@code gradlew benchmarkMeetings --args=<number of meetings>}.
+ */
+public class MeetingsBenchmark {
+
+    private static final int DEFAULT_MEETING_COUNT = 100_000;
+    private static final int MOVE_COUNT = 1_000;
+    private static final LocalDateTime FIRST_START_TIME = LocalDateTime.of(2024, 1, 1, 9, 0);
+    private static final Name NAME = new Name("Alex Yeoh");
+    private static final String LOCATION = "COM1";
+
+    /**
+     * Prints the median time taken per insert and per move.
+     */
+    public static void main(String[] args) throws Exception {
+        int meetingCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_MEETING_COUNT;
+        List<Meeting> meetings = createMeetings(meetingCount);
+        Collections.shuffle(meetings, new Random(meetingCount));
+
+        Meetings list = insert(meetings);
+        Meeting first = list.getMeeting(0);
+        LocalDateTime lastEndTime = list.getMeeting(list.getMeetingsCount() - 1).endTime;
+        Meeting last = new Meeting(NAME, lastEndTime.plusHours(1), lastEndTime.plusHours(2), LOCATION);
+
+        System.out.println("Inserting " + meetingCount + " meetings in shuffled order, then moving a meeting "
+                + MOVE_COUNT + " times");
+        System.out.println("operation\tmedian us");
+        System.out.printf("insert\t\t%.2f%n", measureMedianNanos(() -> insert(meetings)) / 1e3 / meetingCount);
+        System.out.printf("move\t\t%.2f%n", measureMedianNanos(() -> move(list, first, last)) / 1e3 / MOVE_COUNT);
+    }
+
+    /**
+     * Returns {@code meetingCount} meetings of an hour each, an hour apart, so that none of them clash.
+     */
+    private static List<Meeting> createMeetings(int meetingCount) throws CommandException {
+        List<Meeting> meetings = new ArrayList<>();
+        for (int i = 0; i < meetingCount; i++) {
+            LocalDateTime startTime = FIRST_START_TIME.plusHours(2L * i);
+            meetings.add(new Meeting(NAME, startTime, startTime.plusHours(1), LOCATION));
+        }
+        return meetings;
+    }
+
+    private static Meetings insert(List<Meeting> meetings) {
+        Meetings list = new Meetings();
+        for (Meeting meeting : meetings) {
+            list.addMeeting(meeting);
+        }
+        return list;
+    }
+
+    /**
+     * Moves {@code first} to the end of {@code list} as {@code last} and back, {@link #MOVE_COUNT} times in all.
+     */
+    private static void move(Meetings list, Meeting first, Meeting last) {
+        for (int i = 0; i < MOVE_COUNT / 2; i++) {
+            list.setMeeting(first, last);
+            list.setMeeting(last, first);
+        }
+    }
+}
@@ -1,15 +1,22 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.exceptions.MeetingNotFoundException;
 import seedu.address.model.person.exceptions.TimeClashException;
 
 public class MeetingsTest {
@@ -34,6 +41,181 @@ public class MeetingsTest {
         assertTrue(meetings.isClash(defaultMeeting));
     }
 
+    @Test
+    public void isClash_adjacentMeetings_returnsFalse() throws CommandException {
+        Meetings meetings = new Meetings();
+        meetings.addMeeting(defaultMeeting);
+
+        // ends exactly when the existing meeting starts
+        assertFalse(meetings.isClash(new Meeting(name, startTime.minusHours(1), startTime, location)));
+
+        // starts exactly when the existing meeting ends
+        assertFalse(meetings.isClash(new Meeting(name, endTime, endTime.plusHours(1), location)));
+    }
+
+    @Test
+    public void getOverlappingMeetings_spanningMeeting_returnsAllOverlapsLatestFirst() throws CommandException {
+        Meetings meetings = new Meetings();
+        Meeting earlier = new Meeting(name, startTime.minusHours(3), startTime.minusHours(2), location);
+        Meeting later = new Meeting(name, endTime.plusHours(2), endTime.plusHours(3), location);
+        meetings.addMeeting(later);
+        meetings.addMeeting(defaultMeeting);
+        meetings.addMeeting(earlier);
+
+        Meeting spanning = new Meeting(name, startTime.minusMinutes(30), endTime.plusHours(5), location);
+        assertEquals(Arrays.asList(later, defaultMeeting), meetings.getOverlappingMeetings(spanning));
+
+        Meeting free = new Meeting(name, startTime.minusHours(2), startTime, location);
+        assertEquals(Collections.emptyList(), meetings.getOverlappingMeetings(free));
+    }
+
+    @Test
+    public void setInternalList_clashingMeetings_throwsTimeClashException() throws CommandException {
+        Meetings meetings = new Meetings();
+        Meeting clashing = new Meeting(name, startTime.plusMinutes(30), endTime.plusMinutes(30), location);
+        assertThrows(TimeClashException.class, () -> meetings.setInternalList(Arrays.asList(defaultMeeting,
+                clashing)));
+    }
+
+    @Test
+    public void addMeeting_outOfOrder_keepsListSortedWithOneChangePerMutation() throws CommandException {
+        Meetings meetings = new Meetings();
+        Meeting earlier = new Meeting(name, startTime.minusDays(1), endTime.minusDays(1), location);
+        Meeting later = new Meeting(name, startTime.plusDays(1), endTime.plusDays(1), location);
+        int[] changeCount = {0};
+        meetings.getInternalList().addListener((ListChangeListener<Meeting>) change -> changeCount[0]++);
+
+        meetings.addMeeting(later);
+        meetings.addMeeting(earlier);
+        meetings.addMeeting(defaultMeeting);
+        assertEquals(Arrays.asList(earlier, defaultMeeting, later), meetings.getInternalList());
+        assertEquals(3, changeCount[0]);
+
+        meetings.deleteMeeting(defaultMeeting);
+        assertEquals(Arrays.asList(earlier, later), meetings.getInternalList());
+        assertEquals(4, changeCount[0]);
+    }
+
+    @Test
+    public void setMeeting_editedMeetingMovesPastOthers_keepsListSortedWithOneChangePerMutation()
+            throws CommandException {
+        Meetings meetings = new Meetings();
+        Meeting later = new Meeting(name, startTime.plusDays(1), endTime.plusDays(1), location);
+        Meeting evenLater = new Meeting(name, startTime.plusDays(2), endTime.plusDays(2), location);
+        meetings.addMeeting(defaultMeeting);
+        meetings.addMeeting(later);
+        meetings.addMeeting(evenLater);
+        int[] changeCount = {0};
+        meetings.getInternalList().addListener((ListChangeListener<Meeting>) change -> changeCount[0]++);
+
+        Meeting latest = new Meeting(name, startTime.plusDays(3), endTime.plusDays(3), location);
+        meetings.setMeeting(defaultMeeting, latest);
+        assertEquals(Arrays.asList(later, evenLater, latest), meetings.getInternalList());
+        assertEquals(1, changeCount[0]);
+
+        Meeting earliest = new Meeting(name, startTime.minusDays(1), endTime.minusDays(1), location);
+        meetings.setMeeting(latest, earliest);
+        assertEquals(Arrays.asList(earliest, later, evenLater), meetings.getInternalList());
+        assertEquals(2, changeCount[0]);
+
+        Meeting movedInPlace = new Meeting(name, startTime.minusDays(1), endTime.minusDays(1), "Other Location");
+        meetings.setMeeting(earliest, movedInPlace);
+        assertEquals(Arrays.asList(movedInPlace, later, evenLater), meetings.getInternalList());
+        assertEquals(3, changeCount[0]);
+    }
+
+    @Test
+    public void deleteMeeting_meetingNotInList_throwsMeetingNotFoundException() throws CommandException {
+        Meetings meetings = new Meetings();
+        meetings.addMeeting(defaultMeeting);
+        Meeting sameTimeElsewhere = new Meeting(name, startTime, endTime, "Other Location");
+        assertThrows(MeetingNotFoundException.class, () -> meetings.deleteMeeting(sameTimeElsewhere));
+    }
+
+    @Test
+    public void addMeeting_recurringMeeting_checksClashesAgainstEveryOccurrence() throws CommandException {
+        Meetings meetings = new Meetings();
+        Meeting weekly = new Meeting(name, startTime, endTime, location,
+                new Recurrence(7, LocalDate.of(2024, 12, 31), Set.of(LocalDate.of(2024, 8, 6))));
+        meetings.addMeeting(weekly);
+
+        // a later occurrence clashes
+        assertThrows(TimeClashException.class, () -> meetings.addMeeting(new Meeting(name, startTime.plusWeeks(3),
+                endTime.plusWeeks(3), location)));
+
+        // a skipped occurrence does not clash
+        Meeting onSkippedDate = new Meeting(name, startTime.plusWeeks(1), endTime.plusWeeks(1), location);
+        meetings.addMeeting(onSkippedDate);
+
+        // a recurring meeting that clashes with a single meeting
+        Meeting daily = new Meeting(name, startTime.plusDays(3), endTime.plusDays(3), location,
+                new Recurrence(1, LocalDate.of(2024, 8, 15), Collections.emptySet()));
+        assertTrue(meetings.isClash(daily));
+        assertEquals(Arrays.asList(onSkippedDate, weekly), meetings.getOverlappingMeetings(daily));
+
+        assertEquals(Arrays.asList(weekly, onSkippedDate), meetings.getInternalList());
+        meetings.deleteMeeting(weekly);
+        assertEquals(Arrays.asList(onSkippedDate), meetings.getInternalList());
+        assertFalse(meetings.isClash(new Meeting(name, startTime.plusWeeks(3), endTime.plusWeeks(3), location)));
+    }
+
+    @Test
+    public void getOccurrencesBetween_singleAndRecurringMeetings_returnsOccurrencesInOrder() throws CommandException {
+        Meetings meetings = new Meetings();
+        Meeting weekly = new Meeting(name, startTime, endTime, location,
+                new Recurrence(7, LocalDate.of(2024, 12, 31), Collections.emptySet()));
+        Meeting single = new Meeting(name, startTime.plusDays(8), endTime.plusDays(8), location);
+        meetings.setInternalList(Arrays.asList(single, weekly));
+
+        assertEquals(Arrays.asList(new Meeting(name, startTime.plusWeeks(1), endTime.plusWeeks(1), location),
+                single, new Meeting(name, startTime.plusWeeks(2), endTime.plusWeeks(2), location)),
+                meetings.getOccurrencesBetween(startTime.plusDays(1), startTime.plusDays(15)));
+    }
+
+    @Test
+    public void getOccurrencesBetween_endNotAfterStart_returnsEmptyList() throws CommandException {
+        Meetings meetings = new Meetings();
+        meetings.addMeeting(defaultMeeting);
+
+        assertEquals(Collections.emptyList(), meetings.getOccurrencesBetween(endTime, startTime));
+        assertEquals(Collections.emptyList(), meetings.getOccurrencesBetween(startTime, startTime));
+    }
+
+    @Test
+    public void toString_period_listsOccurrencesWithListNumbers() throws CommandException {
+        Meetings meetings = new Meetings();
+        Meeting weekly = new Meeting(name, startTime, endTime, location,
+                new Recurrence(7, LocalDate.of(2024, 12, 31), Collections.emptySet()));
+        Meeting single = new Meeting(name, startTime.plusDays(8), endTime.plusDays(8), location);
+        Meeting outside = new Meeting(name, startTime.plusDays(20), endTime.plusDays(20), location);
+        meetings.setInternalList(Arrays.asList(single, weekly, outside));
+
+        Meeting occurrence = new Meeting(name, startTime.plusWeeks(1), endTime.plusWeeks(1), location);
+        String expected = "1. Meeting with " + name + " " + occurrence + "\n"
+                + "2. Meeting with " + name + " " + single + "\n";
+        assertEquals(expected, meetings.toString(startTime.plusDays(1), startTime.plusDays(9)));
+        assertEquals("", meetings.toString(startTime.plusDays(9), startTime.plusDays(10)));
+    }
+
+    @Test
+    public void getMeetingsEndedBefore_mixedMeetings_returnsOnlyEndedMeetings() throws CommandException {
+        Meetings meetings = new Meetings();
+        Meeting weekly = new Meeting(name, startTime.minusDays(1), endTime.minusDays(1), location,
+                new Recurrence(7, LocalDate.of(2024, 8, 19), Collections.emptySet()));
+        Meeting later = new Meeting(name, startTime.plusDays(14), endTime.plusDays(14), location);
+        meetings.addMeeting(defaultMeeting);
+        meetings.addMeeting(weekly);
+        meetings.addMeeting(later);
+
+        // the weekly meeting has occurrences after the cutoff, and the cutoff falls within the later meeting
+        assertEquals(Arrays.asList(defaultMeeting),
+                meetings.getMeetingsEndedBefore(startTime.plusDays(14).plusMinutes(30)));
+
+        // every occurrence of the weekly meeting has ended
+        assertEquals(Arrays.asList(defaultMeeting, later, weekly),
+                meetings.getMeetingsEndedBefore(endTime.plusDays(21)));
+    }
+
     @Test
     public void tadd_clashMeeting_throwsTimeClashException() {
         Meetings meetings = new Meetings();
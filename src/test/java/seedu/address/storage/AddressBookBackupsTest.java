@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AddressBookBackupsTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBackupFilePathFor() {
+        assertEquals(Paths.get("data", "findingbrUdders-backup2.json"),
+                AddressBookBackups.getBackupFilePathFor(Paths.get("data", "findingbrUdders.json"), 2));
+    }
+
+    @Test
+    public void backUp_moreVersionsThanBackupCount_newestVersionsKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JsonAddressBookStorage.getJournalFilePathFor(filePath);
+
+        // No backup is made of a file that does not exist yet
+        AddressBookBackups.backUp(filePath);
+        assertFalse(Files.exists(AddressBookBackups.getBackupFilePathFor(filePath, 1)));
+
+        for (int version = 0; version <= AddressBookBackups.BACKUP_COUNT; version++) {
+            FileUtil.writeToFile(filePath, "version " + version);
+            FileUtil.writeToFile(journalFilePath, "journal " + version);
+            AddressBookBackups.backUp(filePath);
+        }
+        // Replacing the file after backing it up leaves the backup as it was
+        FileUtil.writeToFile(filePath, "newest version");
+        Files.delete(journalFilePath);
+
+        for (int number = 1; number <= AddressBookBackups.BACKUP_COUNT; number++) {
+            Path backupFilePath = AddressBookBackups.getBackupFilePathFor(filePath, number);
+            int version = AddressBookBackups.BACKUP_COUNT + 1 - number;
+            assertEquals("version " + version, FileUtil.readFromFile(backupFilePath));
+            assertEquals("journal " + version,
+                    FileUtil.readFromFile(JsonAddressBookStorage.getJournalFilePathFor(backupFilePath)));
+        }
+        assertFalse(Files.exists(AddressBookBackups.getBackupFilePathFor(filePath,
+                AddressBookBackups.BACKUP_COUNT + 1)));
+    }
+
+    @Test
+    public void readNewestValidBackup_newestBackupInvalid_olderBackupRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path newestBackupFilePath = AddressBookBackups.getBackupFilePathFor(filePath, 1);
+        for (int version = 0; version < 2; version++) {
+            FileUtil.writeToFile(filePath, "version " + version);
+            AddressBookBackups.backUp(filePath);
+        }
+
+        AddressBook olderBackup = getTypicalAddressBook();
+        Optional<ReadOnlyAddressBook> readBack = AddressBookBackups.readNewestValidBackup(filePath, backupFilePath -> {
+            if (backupFilePath.equals(newestBackupFilePath)) {
+                throw new DataLoadingException(new Exception("Invalid backup"));
+            }
+            return Optional.of(olderBackup);
+        });
+        assertEquals(Optional.of(olderBackup), readBack);
+
+        assertFalse(AddressBookBackups.readNewestValidBackup(testFolder.resolve("Missing.json"),
+                backupFilePath -> Optional.of(olderBackup)).isPresent());
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+public class AddressBookFormatConverterTest {
+
+    private static final Path RECURRING_MEETINGS_FILE = Paths.get("src", "test", "data",
+            "JsonSerializableAddressBookTest", "recurringMeetingsAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameFile() throws Exception {
+        AddressBook original = JsonUtil.readJsonFile(RECURRING_MEETINGS_FILE, JsonSerializableAddressBook.class)
+                .get().toModelType();
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+        Path convertedFilePath = testFolder.resolve("converted.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        AddressBookFormatConverter.convertJsonToBinary(jsonFilePath, binaryFilePath);
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get()));
+
+        AddressBookFormatConverter.convertBinaryToJson(binaryFilePath, convertedFilePath);
+        assertArrayEquals(Files.readAllBytes(jsonFilePath), Files.readAllBytes(convertedFilePath));
+    }
+
+    @Test
+    public void convert_missingFile_throwsDataLoadingException() {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+
+        assertThrows(DataLoadingException.class, () ->
+                AddressBookFormatConverter.convertJsonToBinary(jsonFilePath, binaryFilePath));
+        assertThrows(DataLoadingException.class, () ->
+                AddressBookFormatConverter.convertBinaryToJson(binaryFilePath, jsonFilePath));
+    }
+}
@@ -0,0 +1,158 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Phone;
+
+public class BinaryAddressBookStorageTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path RECURRING_MEETINGS_FILE = TEST_DATA_FOLDER.resolve("recurringMeetingsAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("missing.bin"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original, filePath);
+        readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_recurringMeetings_sameAsJson() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = JsonUtil.readJsonFile(RECURRING_MEETINGS_FILE, JsonSerializableAddressBook.class)
+                .get().toModelType();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getMeetingList(), readBack.getMeetingList());
+    }
+
+    @Test
+    public void saveAddressBook_typicalPersons_smallerThanJson() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.size(filePath) < Files.size(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void isBinaryFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(TYPICAL_PERSONS_FILE));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(testFolder.resolve("missing.bin")));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length + 1));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_formatVersionWithoutIndex_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        // Files of the first version end where the index starts now.
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        int indexOffset = bytes.getInt(bytes.limit() - Integer.BYTES);
+        bytes.put(BinaryAddressBookStorage.MAGIC_HEADER.length, (byte) BinaryAddressBookStorage.FIRST_FORMAT_VERSION);
+        Files.write(filePath, Arrays.copyOf(bytes.array(), indexOffset));
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        assertThrows(DataLoadingException.class, () -> MappedAddressBook.map(filePath));
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFile_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () ->
+                new BinaryAddressBookStorage(TYPICAL_PERSONS_FILE).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidPhone_throwsDataLoadingException() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(BinaryAddressBookStorage.MAGIC_HEADER);
+        bytes.write(BinaryAddressBookStorage.FORMAT_VERSION);
+        bytes.write(0); // no roles, majors or tags
+        bytes.write(1); // one person
+        writeString(bytes, "Alice Pauline");
+        writeString(bytes, "+651234");
+
+        Path filePath = testFolder.resolve("invalidPhone.bin");
+        Files.write(filePath, bytes.toByteArray());
+        DataLoadingException e = Assertions.assertThrows(DataLoadingException.class, () ->
+                new BinaryAddressBookStorage(filePath).readAddressBook());
+        assertTrue(e.getCause() instanceof IllegalValueException);
+        assertEquals(Phone.MESSAGE_CONSTRAINTS, e.getCause().getMessage());
+    }
+
+    private static void writeString(ByteArrayOutputStream bytes, String value) {
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        bytes.write(encoded.length);
+        bytes.writeBytes(encoded);
+    }
+}
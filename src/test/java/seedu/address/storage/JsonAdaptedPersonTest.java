@@ -7,6 +7,7 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -71,6 +72,20 @@ public class JsonAdaptedPersonTest {
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
 
+    @Test
+    public void toModelType_trusted_valuesNotValidatedButStillRequired() throws Exception {
+        JsonAdaptedPerson person =
+                new JsonAdaptedPerson(VALID_NAME, INVALID_PHONE, VALID_EMAIL, VALID_ROLE, VALID_MAJOR,
+                        VALID_ADDRESS, VALID_TAGS, VALID_MEETINGS);
+        assertEquals(INVALID_PHONE, person.toModelType(Map.of(), true).getPhone().value);
+
+        JsonAdaptedPerson missingPhonePerson = new JsonAdaptedPerson(VALID_NAME, null, VALID_EMAIL, VALID_ROLE,
+                VALID_MAJOR, VALID_ADDRESS, VALID_TAGS, VALID_MEETINGS);
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                missingPhonePerson.toModelType(Map.of(), true));
+    }
+
     @Test
     public void toModelType_nullPhone_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, null, VALID_EMAIL, VALID_ROLE, VALID_MAJOR,
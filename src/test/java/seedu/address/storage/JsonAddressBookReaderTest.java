@@ -0,0 +1,143 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path CLASHING_MEETINGS_FILE = TEST_DATA_FOLDER.resolve("clashingMeetingsAddressBook.json");
+    private static final Path RECURRING_MEETINGS_FILE = TEST_DATA_FOLDER.resolve("recurringMeetingsAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalAddressBook(), JsonAddressBookReader.read(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_recurringMeetingsFile_sameAsSerializableAddressBook() throws Exception {
+        AddressBook expected = JsonUtil.readJsonFile(RECURRING_MEETINGS_FILE, JsonSerializableAddressBook.class)
+                .get().toModelType();
+        AddressBook read = JsonAddressBookReader.read(RECURRING_MEETINGS_FILE);
+        assertEquals(expected, read);
+        assertEquals(expected.getMeetingList(), read.getMeetingList());
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_severalInvalidPersons_allReported() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < JsonAddressBookReader.PERSON_BATCH_SIZE + 1; i++) {
+            persons.add(new JsonAdaptedPerson("Person " + i, "98765432", "person@example.com", "brUdder", "cs",
+                    "4th street", null, null));
+        }
+        persons.set(1, new JsonAdaptedPerson("Hans Muster", "+651234", "person@example.com", "brUdder", "cs",
+                "4th street", null, null));
+        persons.set(JsonAddressBookReader.PERSON_BATCH_SIZE, new JsonAdaptedPerson("Ida Muster", "98765432",
+                "invalid@email!3e", "brUdder", "cs", "4th street", null, null));
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(persons, new ArrayList<>()), filePath);
+
+        IllegalValueException e = Assertions.assertThrows(IllegalValueException.class, () ->
+                JsonAddressBookReader.read(filePath));
+        assertEquals(String.format(ParallelPersonConverter.MESSAGE_INVALID_PERSONS, 2) + "\n"
+                + String.format(ParallelPersonConverter.MESSAGE_INVALID_PERSON, 2, Phone.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(ParallelPersonConverter.MESSAGE_INVALID_PERSON,
+                        JsonAddressBookReader.PERSON_BATCH_SIZE + 1, Email.MESSAGE_CONSTRAINTS), e.getMessage());
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonAddressBookReader.read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_clashingMeetings_sameMessageAsSerializableAddressBook() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(CLASHING_MEETINGS_FILE,
+                JsonSerializableAddressBook.class).get();
+        String expectedMessage = Assertions.assertThrows(IllegalValueException.class,
+                dataFromFile::toModelType).getMessage();
+
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                JsonAddressBookReader.read(CLASHING_MEETINGS_FILE));
+    }
+
+    @Test
+    public void read_unknownFieldsAndMissingMeetings_unknownFieldsIgnored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Files.writeString(filePath, "{ \"app\" : { \"major\" : [ 1 ] }, \"persons\" : [ ] }");
+        assertEquals(new AddressBook(), JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_newerFormatVersion_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Files.writeString(filePath, "{ \"version\" : 3, \"meetings\" : [ ], \"persons\" : [ ] }");
+        assertThrows(IllegalValueException.class, String.format(JsonSerializableAddressBook.MESSAGE_UNSUPPORTED_VERSION,
+                3), () -> JsonAddressBookReader.read(filePath));
+        assertEquals(3, JsonAddressBookReader.readFormatVersion(filePath));
+    }
+
+    @Test
+    public void read_unknownMeetingId_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(List.of(new JsonAdaptedPerson("Hans Muster",
+                "98765432", "person@example.com", "brUdder", "cs", "4th street", null, null, List.of(7))),
+                new ArrayList<>()), filePath);
+        assertThrows(IllegalValueException.class, String.format(JsonAdaptedPerson.MESSAGE_UNKNOWN_MEETING_ID, 7), () ->
+                JsonAddressBookReader.read(filePath));
+    }
+
+    @Test
+    public void read_savedBySerializableAddressBook_sameAsSerializableAddressBook() throws Exception {
+        AddressBook original = JsonUtil.readJsonFile(RECURRING_MEETINGS_FILE, JsonSerializableAddressBook.class)
+                .get().toModelType();
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(original), filePath);
+
+        AddressBook read = JsonAddressBookReader.read(filePath);
+        assertEquals(original, read);
+        assertEquals(original.getMeetingList(), read.getMeetingList());
+        assertEquals(JsonSerializableAddressBook.FORMAT_VERSION, JsonAddressBookReader.readFormatVersion(filePath));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        String typicalPersons = Files.readString(TYPICAL_PERSONS_FILE);
+        Files.writeString(filePath, typicalPersons.substring(0, typicalPersons.length() / 2));
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(filePath));
+
+        Files.writeString(filePath, "");
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(filePath));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,15 +10,27 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -60,6 +73,42 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_formatVersion1_migratedOnce() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path oldFilePath = TEST_DATA_FOLDER.resolve("formatVersion1AddressBook.json");
+        Files.copy(oldFilePath, filePath);
+        ReadOnlyAddressBook expected = readAddressBook("formatVersion1AddressBook.json").get();
+
+        // Reading a file that is not the storage's own leaves it as it is
+        assertEquals(JsonSerializableAddressBook.UNVERSIONED_FORMAT_VERSION,
+                JsonAddressBookReader.readFormatVersion(oldFilePath));
+
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        assertEquals(expected, storage.readAddressBookWithoutMigrating(filePath).get());
+        assertEquals(Files.readString(oldFilePath), Files.readString(filePath));
+
+        assertEquals(expected, storage.readAddressBook().get());
+        assertEquals(JsonSerializableAddressBook.FORMAT_VERSION, JsonAddressBookReader.readFormatVersion(filePath));
+        assertTrue(Files.size(filePath) < Files.size(oldFilePath));
+        assertEquals(Files.readString(oldFilePath),
+                Files.readString(JsonAddressBookStorage.getMigrationBackupFilePathFor(filePath, 1)));
+
+        // The migrated file reads back the same, with every meeting of the persons
+        AddressBook migrated = new AddressBook(storage.readAddressBook().get());
+        assertEquals(expected, migrated);
+        assertEquals(expected.getMeetingList(), migrated.getMeetingList());
+        for (int i = 0; i < expected.getPersonList().size(); i++) {
+            assertEquals(expected.getPersonList().get(i).getMeetings(), migrated.getPersonList().get(i).getMeetings());
+        }
+    }
+
+    @Test
+    public void getMigrationBackupFilePathFor() {
+        assertEquals(Paths.get("data", "findingbrUdders-v1.json"),
+                JsonAddressBookStorage.getMigrationBackupFilePathFor(Paths.get("data", "findingbrUdders.json"), 1));
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -86,6 +135,217 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBookChanges_smallChange_appendedToJournalAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JsonAddressBookStorage.getJournalFilePathFor(filePath);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        // A new model is saved in full
+        saveChanges(jsonAddressBookStorage, model);
+        assertFalse(Files.exists(journalFilePath));
+
+        // Later changes only go to the journal
+        Person person = new PersonBuilder().withName("Journal Person").build();
+        model.addPerson(person);
+        model.addMeeting(person, new Meeting(person.getName(), LocalDateTime.of(2024, 10, 9, 9, 0),
+                LocalDateTime.of(2024, 10, 9, 10, 0), "COM1"));
+        model.deletePerson(model.getFilteredPersonList().get(0));
+        saveChanges(jsonAddressBookStorage, model);
+        assertTrue(Files.exists(journalFilePath));
+
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook().get();
+        assertEquals(model.getAddressBook(), new AddressBook(readBack));
+        assertEquals(model.getAddressBook().getMeetingList(), readBack.getMeetingList());
+
+        // An incomplete entry at the end of the journal is ignored
+        Files.writeString(journalFilePath, "{\"changedPersons\":[", StandardOpenOption.APPEND);
+        readBack = jsonAddressBookStorage.readAddressBook().get();
+        assertEquals(model.getAddressBook(), new AddressBook(readBack));
+
+        // Saving in full compacts the journal into the snapshot
+        jsonAddressBookStorage.saveAddressBook(model.getAddressBook());
+        assertFalse(Files.exists(journalFilePath));
+        readBack = jsonAddressBookStorage.readAddressBook().get();
+        assertEquals(model.getAddressBook(), new AddressBook(readBack));
+    }
+
+    @Test
+    public void getJournalFilePathFor_addressBookFile_siblingJournalFile() {
+        assertEquals(Paths.get("data", "findingbrUdders-journal.jsonl"),
+                JsonAddressBookStorage.getJournalFilePathFor(Paths.get("data", "findingbrUdders.json")));
+    }
+
+    @Test
+    public void readAddressBookInBatches_typicalAddressBook_personsHandedOverAsRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        List<Person> loadedPersons = new ArrayList<>();
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBookInBatches(loadedPersons::addAll).get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(readBack));
+        assertEquals(readBack.getPersonList(), loadedPersons);
+    }
+
+    @Test
+    public void getCheckpointFilePathFor_addressBookFile_siblingManifestFile() {
+        assertEquals(Paths.get("data", "findingbrUdders-checkpoint.json"),
+                JsonAddressBookStorage.getCheckpointFilePathFor(Paths.get("data", "findingbrUdders.json")));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderCheckpoint_skipped() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JsonAddressBookStorage.getJournalFilePathFor(filePath);
+        Path oldJournalFilePath = testFolder.resolve("OldJournal.jsonl");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        saveChanges(jsonAddressBookStorage, model);
+        assertTrue(Files.exists(JsonAddressBookStorage.getCheckpointFilePathFor(filePath)));
+
+        model.deletePerson(ALICE);
+        saveChanges(jsonAddressBookStorage, model);
+        Files.copy(journalFilePath, oldJournalFilePath);
+
+        // The app stops after a new snapshot is saved, but before the journal is removed
+        model.addPerson(ALICE);
+        jsonAddressBookStorage.saveAddressBook(model.getAddressBook());
+        Files.copy(oldJournalFilePath, journalFilePath);
+
+        JsonAddressBookStorage reopenedStorage = new JsonAddressBookStorage(filePath);
+        assertEquals(model.getAddressBook(), new AddressBook(reopenedStorage.readAddressBook().get()));
+
+        // The old journal is replaced rather than appended to
+        model.addPerson(IDA);
+        saveChanges(reopenedStorage, model);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(model.getAddressBook(), new AddressBook(reopenedStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_otherFile_journalOfOwnFileKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path otherFilePath = testFolder.resolve("OtherAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        saveChanges(jsonAddressBookStorage, model);
+
+        // Saving and reading another file, such as a backup, leaves the checkpoint of the journal to start as it was
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+        jsonAddressBookStorage.readAddressBook(otherFilePath);
+        model.addPerson(IDA);
+        saveChanges(jsonAddressBookStorage, model);
+
+        assertEquals(model.getAddressBook(), new AddressBook(new JsonAddressBookStorage(filePath)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_snapshotChangedAfterSaving_validatedInFullWithJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        saveChanges(jsonAddressBookStorage, model);
+        model.addPerson(HOON);
+        saveChanges(jsonAddressBookStorage, model);
+
+        Files.writeString(filePath, System.lineSeparator(), StandardOpenOption.APPEND);
+        JsonAddressBookStorage reopenedStorage = new JsonAddressBookStorage(filePath);
+        assertEquals(model.getAddressBook(), new AddressBook(reopenedStorage.readAddressBook().get()));
+
+        // Without a matching checkpoint, changes go on being appended to the journal
+        model.addPerson(IDA);
+        saveChanges(reopenedStorage, model);
+        assertEquals(model.getAddressBook(), new AddressBook(new JsonAddressBookStorage(filePath)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_snapshotEditedKeepingSizeAndTime_validatedInFull() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        FileTime lastModifiedTime = Files.getLastModifiedTime(filePath);
+
+        // An invalid phone of the same length, which is only noticed if the snapshot is validated
+        String snapshot = Files.readString(filePath);
+        Files.writeString(filePath, snapshot.replace(ALICE.getPhone().value, "9435125x"));
+        Files.setLastModifiedTime(filePath, lastModifiedTime);
+
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void prepareAddressBookChanges_modifiedAfterPreparing_savesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AddressBook expected = new AddressBook(model.getAddressBook());
+
+        PendingSave pendingSave = jsonAddressBookStorage.prepareAddressBookChanges(model.getAddressBook(),
+                model.getUnsavedChanges());
+        model.addPerson(new PersonBuilder().withName("Later Person").build());
+        pendingSave.save();
+
+        assertEquals(expected, jsonAddressBookStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void readNewestValidBackup_dataFileDamaged_previousSnapshotAndJournalRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        saveChanges(jsonAddressBookStorage, model);
+        model.addPerson(HOON);
+        saveChanges(jsonAddressBookStorage, model);
+        AddressBook expected = new AddressBook(model.getAddressBook());
+
+        // The snapshot and journal replaced by a full save are kept as the newest backup
+        model.addPerson(IDA);
+        jsonAddressBookStorage.saveAddressBook(model.getAddressBook());
+        assertFalse(Files.exists(testFolder.resolve("TempAddressBook.json.tmp")));
+
+        Files.writeString(filePath, "{\"persons\": [");
+        assertThrows(DataLoadingException.class, () -> jsonAddressBookStorage.readAddressBook());
+        assertEquals(expected, new AddressBook(jsonAddressBookStorage.readNewestValidBackup().get()));
+    }
+
+    @Test
+    public void readNewestValidBackup_meetingDamaged_previousSnapshotRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person person = new PersonBuilder().withName("Meeting Person").build();
+        model.addPerson(person);
+        model.addMeeting(person, new Meeting(person.getName(), LocalDateTime.of(2024, 10, 9, 9, 0),
+                LocalDateTime.of(2024, 10, 9, 10, 0), "COM1"));
+        jsonAddressBookStorage.saveAddressBook(model.getAddressBook());
+        AddressBook expected = new AddressBook(model.getAddressBook());
+        model.addPerson(IDA);
+        jsonAddressBookStorage.saveAddressBook(model.getAddressBook());
+        String snapshot = Files.readString(filePath);
+
+        // A meeting ending when it starts
+        Files.writeString(filePath, snapshot.replace("09-10-2024 10:00", "09-10-2024 09:00"));
+        assertThrows(DataLoadingException.class, () -> jsonAddressBookStorage.readAddressBook());
+        assertEquals(expected, new AddressBook(jsonAddressBookStorage.readNewestValidBackup().get()));
+
+        // A meeting with a time that is not a date
+        Files.writeString(filePath, snapshot.replace("09-10-2024 10:00", "32-10-2024 10:00"));
+        assertThrows(DataLoadingException.class, () -> jsonAddressBookStorage.readAddressBook());
+        assertEquals(expected, new AddressBook(jsonAddressBookStorage.readNewestValidBackup().get()));
+    }
+
+    /**
+     * Saves the unsaved changes of {@code model} with {@code storage}, as {@code LogicManager} does after a command.
+     */
+    private void saveChanges(JsonAddressBookStorage storage, Model model) throws IOException {
+        PendingSave pendingSave = storage.prepareAddressBookChanges(model.getAddressBook(), model.getUnsavedChanges());
+        model.getUnsavedChanges().clear();
+        pendingSave.save();
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
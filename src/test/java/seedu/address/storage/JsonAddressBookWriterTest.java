@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Recurrence;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonAddressBookWriterTest {
+
+    private static final Path RECURRING_MEETINGS_FILE = Paths.get("src", "test", "data",
+            "JsonSerializableAddressBookTest", "recurringMeetingsAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void writeTo_typicalAddressBook_sameAsSerializableAddressBook() throws Exception {
+        assertSameOutput(getTypicalAddressBook());
+    }
+
+    @Test
+    public void writeTo_recurringMeetings_sameAsSerializableAddressBook() throws Exception {
+        assertSameOutput(JsonUtil.readJsonFile(RECURRING_MEETINGS_FILE, JsonSerializableAddressBook.class).get()
+                .toModelType());
+    }
+
+    @Test
+    public void writeTo_personWithMeetingsAndSpecialCharacters_sameAsSerializableAddressBook() throws Exception {
+        Person person = new PersonBuilder().withAddress("Café \"Kopi\" \\ 東京, #01-01")
+                .withTags("friends", "owesMoney").build();
+        LocalDateTime start = LocalDateTime.of(2024, 10, 1, 9, 0);
+        Meeting weekly = new Meeting(person.getName(), start, start.plusHours(1), "COM1\tRoom 2",
+                new Recurrence(7, LocalDate.of(2024, 11, 26), Set.of(LocalDate.of(2024, 10, 15),
+                        LocalDate.of(2024, 10, 8))));
+        person.getMeetings().addMeeting(weekly);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(person);
+        addressBook.addMeeting(weekly);
+
+        assertSameOutput(addressBook);
+    }
+
+    @Test
+    public void writeTo_emptyAddressBook_sameAsSerializableAddressBook() throws Exception {
+        assertSameOutput(new AddressBook());
+    }
+
+    private void assertSameOutput(ReadOnlyAddressBook addressBook) throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        long checksum = new JsonAddressBookWriter(addressBook).writeTo(filePath);
+        byte[] expected = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook))
+                .getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(expected, Files.readAllBytes(filePath));
+        assertEquals(JsonCheckpoint.computeChecksum(filePath), checksum);
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Recurrence;
+
+public class JsonMeetingArchiveStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getArchiveFilePathFor_addressBookFile_siblingArchiveFile() {
+        assertEquals(Paths.get("data", "findingbrUdders-archive.jsonl"),
+                JsonMeetingArchiveStorage.getArchiveFilePathFor(Paths.get("data", "findingbrUdders.json")));
+    }
+
+    @Test
+    public void readMeetingArchive_missingFile_emptyResult() throws Exception {
+        JsonMeetingArchiveStorage storage = new JsonMeetingArchiveStorage(testFolder.resolve("missing.jsonl"));
+        assertTrue(storage.readMeetingArchive().isEmpty());
+    }
+
+    @Test
+    public void readMeetingArchive_invalidLine_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("invalid.jsonl");
+        Files.writeString(filePath, "{\"person\":\"Alice Pauline\"}\n");
+        assertThrows(DataLoadingException.class, () -> new JsonMeetingArchiveStorage(filePath).readMeetingArchive());
+    }
+
+    @Test
+    public void appendToMeetingArchive_appendTwice_allMeetingsRead() throws Exception {
+        Path filePath = testFolder.resolve("sub").resolve("archive.jsonl");
+        JsonMeetingArchiveStorage storage = new JsonMeetingArchiveStorage(filePath);
+        Name name = new Name("Alice Pauline");
+        Meeting first = new Meeting(name, LocalDateTime.of(2024, 1, 9, 9, 0), LocalDateTime.of(2024, 1, 9, 10, 0),
+                "COM1");
+        Meeting second = new Meeting(name, LocalDateTime.of(2024, 2, 6, 9, 0), LocalDateTime.of(2024, 2, 6, 10, 0),
+                "COM2", new Recurrence(7, LocalDate.of(2024, 3, 5), Set.of(LocalDate.of(2024, 2, 13))));
+
+        storage.appendToMeetingArchive(List.of(first));
+        storage.appendToMeetingArchive(List.of(second));
+
+        assertEquals(List.of(first, second), storage.readMeetingArchive());
+        assertEquals(2, Files.readAllLines(filePath).size());
+    }
+}
@@ -1,16 +1,27 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Recurrence;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -19,6 +30,8 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path CLASHING_MEETINGS_FILE = TEST_DATA_FOLDER.resolve("clashingMeetingsAddressBook.json");
+    private static final Path RECURRING_MEETINGS_FILE = TEST_DATA_FOLDER.resolve("recurringMeetingsAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -44,4 +57,69 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_clashingMeetings_reportsEveryClashingPair() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(CLASHING_MEETINGS_FILE,
+                JsonSerializableAddressBook.class).get();
+        IllegalValueException thrown = Assertions.assertThrows(IllegalValueException.class,
+                dataFromFile::toModelType);
+
+        // COM1 clashes with COM3 and COM4, and COM3 clashes with COM4; COM2 clashes with nothing
+        String[] clashes = thrown.getMessage().split("\n");
+        assertEquals(4, clashes.length);
+        assertTrue(thrown.getMessage().contains("COM1 clashes with meeting with Benson Meier"));
+        assertFalse(thrown.getMessage().contains("COM2"));
+    }
+
+    @Test
+    public void toModelType_recurringMeetings_storedOnceAndRoundTrips() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(RECURRING_MEETINGS_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+
+        // the single meeting falls on the skipped date of the recurring meeting, so they do not clash
+        assertEquals(2, addressBookFromFile.getMeetingList().size());
+        Meeting weekly = addressBookFromFile.getMeetingList().get(0);
+        assertEquals(new Recurrence(7, LocalDate.of(2024, 11, 26), Set.of(LocalDate.of(2024, 10, 8))),
+                weekly.getRecurrence().get());
+
+        JsonSerializableAddressBook roundTripped = JsonUtil.fromJsonString(
+                JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBookFromFile)),
+                JsonSerializableAddressBook.class);
+        assertEquals(addressBookFromFile, roundTripped.toModelType());
+    }
+
+    @Test
+    public void toModelType_personsWithMeetings_eachMeetingSavedOnce() throws Exception {
+        Person person = new PersonBuilder().withName("Hans Muster").build();
+        LocalDateTime start = LocalDateTime.of(2024, 10, 1, 9, 0);
+        Meeting first = new Meeting(person.getName(), start, start.plusHours(1), "COM1");
+        Meeting second = new Meeting(person.getName(), start.plusDays(1), start.plusDays(1).plusHours(1), "COM2");
+        person.getMeetings().addMeeting(first);
+        person.getMeetings().addMeeting(second);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(person);
+        addressBook.addMeeting(first);
+        addressBook.addMeeting(second);
+
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        assertEquals(2, json.split("\"location\"", -1).length - 1);
+
+        AddressBook readBack = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+        assertEquals(addressBook, readBack);
+        assertEquals(person.getMeetings(), readBack.getPersonList().get(0).getMeetings());
+    }
+
+    @Test
+    public void toModelType_duplicateMeetingIds_throwsIllegalValueException() {
+        JsonAdaptedMeeting meeting = new JsonAdaptedMeeting(1, "Hans Muster", "01-10-2024 09:00", "01-10-2024 10:00",
+                "COM1", null);
+        JsonAdaptedMeeting otherMeeting = new JsonAdaptedMeeting(1, "Hans Muster", "02-10-2024 09:00",
+                "02-10-2024 10:00", "COM1", null);
+        JsonSerializableAddressBook dataFromFile = new JsonSerializableAddressBook(
+                JsonSerializableAddressBook.FORMAT_VERSION, List.of(meeting, otherMeeting), List.of());
+        assertThrows(IllegalValueException.class, String.format(
+                JsonSerializableAddressBook.MESSAGE_DUPLICATE_MEETING_ID, 1), dataFromFile::toModelType);
+    }
+
 }
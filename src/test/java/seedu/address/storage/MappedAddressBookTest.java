@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+public class MappedAddressBookTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path RECURRING_MEETINGS_FILE = TEST_DATA_FOLDER.resolve("recurringMeetingsAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void map_typicalAddressBook_samePersons() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        MappedAddressBook mapped = saveAndMap(original);
+
+        assertEquals(original.getPersonList(), new ArrayList<>(mapped.getPersonList()));
+        assertEquals(original, new AddressBook(mapped));
+    }
+
+    @Test
+    public void map_recurringMeetings_sameMeetings() throws Exception {
+        AddressBook original = JsonUtil.readJsonFile(RECURRING_MEETINGS_FILE, JsonSerializableAddressBook.class)
+                .get().toModelType();
+        MappedAddressBook mapped = saveAndMap(original);
+
+        assertEquals(original.getMeetingList(), mapped.getMeetingList());
+        for (int i = 0; i < original.getPersonList().size(); i++) {
+            assertEquals(original.getPersonList().get(i).getMeetings(), mapped.getPersonList().get(i).getMeetings());
+        }
+    }
+
+    @Test
+    public void getPersonList_filtered_matchingPersonsOnly() throws Exception {
+        FilteredList<Person> filteredPersons = new FilteredList<>(saveAndMap(getTypicalAddressBook()).getPersonList());
+        filteredPersons.setPredicate(person -> person.getName().equals(ALICE.getName()));
+        assertEquals(List.of(ALICE), new ArrayList<>(filteredPersons));
+    }
+
+    @Test
+    public void getPersonList_modifyList_throwsUnsupportedOperationException() throws Exception {
+        MappedAddressBook mapped = saveAndMap(getTypicalAddressBook());
+        assertThrows(UnsupportedOperationException.class, () -> mapped.getPersonList().remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> mapped.getPersonList().add(ALICE));
+        assertThrows(UnsupportedOperationException.class, () -> mapped.getPersonList().set(0, ALICE));
+    }
+
+    @Test
+    public void getPersonList_indexOutOfRange_throwsIndexOutOfBoundsException() throws Exception {
+        MappedAddressBook mapped = saveAndMap(getTypicalAddressBook());
+        int size = mapped.getPersonList().size();
+        assertThrows(IndexOutOfBoundsException.class, () -> mapped.getPersonList().get(size));
+    }
+
+    @Test
+    public void map_notBinaryFile_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> MappedAddressBook.map(TYPICAL_PERSONS_FILE));
+        assertThrows(DataLoadingException.class, () -> MappedAddressBook.map(testFolder.resolve("missing.bin")));
+    }
+
+    @Test
+    public void getPersonList_corruptedPerson_placeholderListed() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        // An underscore is not allowed in names
+        replaceFirst(filePath, ALICE.getName().fullName, ALICE.getName().fullName.replace(' ', '_'));
+        MappedAddressBook mapped = MappedAddressBook.map(filePath);
+
+        FilteredList<Person> filteredPersons = new FilteredList<>(mapped.getPersonList());
+        filteredPersons.setPredicate(person -> person.getName().equals(ALICE.getName()));
+        assertTrue(filteredPersons.isEmpty());
+        assertEquals(1, mapped.getUnreadablePersonCount());
+        assertEquals(getTypicalAddressBook().getPersonList().size(), mapped.getPersonList().size());
+    }
+
+    @Test
+    public void map_personOffsetsOutOfOrder_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        int indexOffset = BinaryAddressBookReader.readIndex(buffer).getIndexOffset();
+        // The second person now starts where the first one does
+        buffer.putInt(indexOffset + Integer.BYTES, buffer.getInt(indexOffset));
+        Files.write(filePath, buffer.array());
+
+        assertThrows(DataLoadingException.class, () -> MappedAddressBook.map(filePath));
+    }
+
+    /**
+     * Replaces the first occurrence of {@code target} in the file at {@code filePath} with {@code replacement} of the
+     * same length.
+     */
+    private static void replaceFirst(Path filePath, String target, String replacement) throws Exception {
+        String content = new String(Files.readAllBytes(filePath), StandardCharsets.ISO_8859_1);
+        Files.write(filePath, content.replaceFirst(target, replacement).getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private MappedAddressBook saveAndMap(AddressBook addressBook) throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+        return MappedAddressBook.map(filePath);
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonConverterTest {
+
+    private static final int PERSON_COUNT = ParallelPersonConverter.SEQUENTIAL_THRESHOLD * 8 + 1;
+
+    @Test
+    public void convert_manyPersons_sameOrderAsGiven() throws Exception {
+        List<Person> expected = createPersons(PERSON_COUNT);
+        ParallelPersonConverter converter = new ParallelPersonConverter(new ForkJoinPool(4));
+
+        assertEquals(expected, converter.convert(adapt(expected)));
+        converter.throwIfAnyInvalid();
+    }
+
+    @Test
+    public void convert_oneInvalidPerson_sameExceptionAsPerson() {
+        List<JsonAdaptedPerson> persons = adapt(createPersons(10));
+        persons.set(3, withEmail(BENSON, "example.com"));
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+
+        assertEquals(9, converter.convert(persons).size());
+        assertThrows(IllegalValueException.class, Email.MESSAGE_CONSTRAINTS, converter::throwIfAnyInvalid);
+    }
+
+    @Test
+    public void convert_invalidPersonsOverSeveralCalls_allReportedInOrder() {
+        List<JsonAdaptedPerson> firstBatch = adapt(createPersons(PERSON_COUNT));
+        List<JsonAdaptedPerson> secondBatch = adapt(createPersons(5));
+        firstBatch.set(PERSON_COUNT - 1, withEmail(BENSON, "example.com"));
+        firstBatch.set(0, new JsonAdaptedPerson(BENSON.getName().fullName, "+651234", BENSON.getEmail().value,
+                BENSON.getRole().toString(), BENSON.getMajor().toString(), BENSON.getAddress().value, null, null));
+        secondBatch.set(1, withEmail(BENSON, "example.com"));
+        ParallelPersonConverter converter = new ParallelPersonConverter(new ForkJoinPool(4));
+
+        assertEquals(PERSON_COUNT - 2, converter.convert(firstBatch).size());
+        assertEquals(4, converter.convert(secondBatch).size());
+        IllegalValueException e = Assertions.assertThrows(IllegalValueException.class,
+                converter::throwIfAnyInvalid);
+        String expectedMessage = String.format(ParallelPersonConverter.MESSAGE_INVALID_PERSONS, 3) + "\n"
+                + String.format(ParallelPersonConverter.MESSAGE_INVALID_PERSON, 1, Phone.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(ParallelPersonConverter.MESSAGE_INVALID_PERSON, PERSON_COUNT,
+                        Email.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(ParallelPersonConverter.MESSAGE_INVALID_PERSON, PERSON_COUNT + 2,
+                        Email.MESSAGE_CONSTRAINTS);
+        assertEquals(expectedMessage, e.getMessage());
+    }
+
+    @Test
+    public void convert_noPersons_nothingInvalid() throws Exception {
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        assertTrue(converter.convert(new ArrayList<>()).isEmpty());
+        converter.throwIfAnyInvalid();
+    }
+
+    /**
+     * Returns {@code count} persons with different names.
+     */
+    static List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        return persons;
+    }
+
+    static List<JsonAdaptedPerson> adapt(List<Person> persons) {
+        return persons.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList());
+    }
+
+    private static JsonAdaptedPerson withEmail(Person person, String email) {
+        return new JsonAdaptedPerson(person.getName().fullName, person.getPhone().value, email,
+                person.getRole().toString(), person.getMajor().toString(), person.getAddress().value, null, null);
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import static seedu.address.testutil.BenchmarkUtil.measureMedianNanos;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Measures how the time taken by {@link ParallelPersonConverter} to convert a large number of persons scales with the
+ * number of threads used, from one thread up to one for every core.
+ *
+ * This is not a test, as the times depend on the machine it runs on. Run it with {@code gradlew benchmarkLoad}, or
+ * {@code gradlew benchmarkLoad --args=<number of persons>}.
+ */
+public class PersonConversionBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 100_000;
+
+    /**
+     * Prints the median time taken to convert the persons with each number of threads, and the speedup over a single
+     * thread.
+     */
+    public static void main(String[] args) throws Exception {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        List<JsonAdaptedPerson> persons = ParallelPersonConverterTest.adapt(
+                ParallelPersonConverterTest.createPersons(personCount));
+        int coreCount = Runtime.getRuntime().availableProcessors();
+
+        System.out.println("Converting " + personCount + " persons on a machine with " + coreCount + " cores");
+        System.out.println("threads\tmedian ms\tspeedup");
+        double singleThreadMillis = 0;
+        for (int threadCount = 1; threadCount <= coreCount; threadCount = nextThreadCount(threadCount, coreCount)) {
+            double millis = measure(persons, threadCount);
+            if (threadCount == 1) {
+                singleThreadMillis = millis;
+            }
+            System.out.printf("%d\t%.1f\t\t%.2fx%n", threadCount, millis, singleThreadMillis / millis);
+        }
+    }
+
+    private static int nextThreadCount(int threadCount, int coreCount) {
+        return threadCount < coreCount ? Math.min(threadCount * 2, coreCount) : threadCount + 1;
+    }
+
+    private static double measure(List<JsonAdaptedPerson> persons, int threadCount) throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(threadCount);
+        try {
+            return measureMedianNanos(() -> convert(persons, pool)) / 1e6;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void convert(List<JsonAdaptedPerson> persons, ForkJoinPool pool) throws Exception {
+        ParallelPersonConverter converter = new ParallelPersonConverter(pool);
+        if (converter.convert(persons).size() != persons.size()) {
+            converter.throwIfAnyInvalid();
+        }
+    }
+}
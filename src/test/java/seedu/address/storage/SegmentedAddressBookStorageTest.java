@@ -0,0 +1,208 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class SegmentedAddressBookStorageTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path RECURRING_MEETINGS_FILE = TEST_DATA_FOLDER.resolve("recurringMeetingsAddressBook.json");
+    private static final int SEGMENT_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SegmentedAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(testFolder.resolve("missing.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, SEGMENT_COUNT);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original, filePath);
+        readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_recurringMeetings_sameAsJson() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = JsonUtil.readJsonFile(RECURRING_MEETINGS_FILE, JsonSerializableAddressBook.class)
+                .get().toModelType();
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, SEGMENT_COUNT);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getMeetingList(), readBack.getMeetingList());
+    }
+
+    @Test
+    public void prepareAddressBookChanges_personEdited_onlyItsSegmentSaved() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path segmentFolder = SegmentedAddressBookStorage.getSegmentFolderFor(filePath);
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, SEGMENT_COUNT);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        // A new model is saved in full
+        saveChanges(storage, model);
+        List<Path> fullSaveFiles = listFiles(segmentFolder);
+        assertEquals(SEGMENT_COUNT + 1, fullSaveFiles.size());
+
+        // Only one segment is written, next to the files of the full save
+        model.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("91234567").build());
+        saveChanges(storage, model);
+
+        List<Path> savedFiles = listFiles(segmentFolder);
+        savedFiles.removeAll(fullSaveFiles);
+        assertEquals(1, savedFiles.size());
+        assertTrue(savedFiles.get(0).getFileName().toString().startsWith("segment-"));
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void prepareAddressBookChanges_interruptedBeforeManifestSaved_lastSaveRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, SEGMENT_COUNT);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        saveChanges(storage, model);
+        AddressBook lastSaved = new AddressBook(model.getAddressBook());
+        byte[] lastManifest = Files.readAllBytes(filePath);
+
+        // Renaming a person moves it to another segment, and writes both segments and the meetings file
+        model.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Renamed").build());
+        saveChanges(storage, model);
+
+        // The save stopping before the manifest is written leaves the manifest of the last save
+        Files.write(filePath, lastManifest);
+        assertEquals(lastSaved, new AddressBook(new SegmentedAddressBookStorage(filePath, SEGMENT_COUNT)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void prepareAddressBookChanges_filesReplaced_deletedByNextSave() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path segmentFolder = SegmentedAddressBookStorage.getSegmentFolderFor(filePath);
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, SEGMENT_COUNT);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        saveChanges(storage, model);
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        model.setPerson(ALICE, editedAlice);
+        saveChanges(storage, model);
+        model.setPerson(editedAlice, new PersonBuilder(ALICE).withPhone("98765432").build());
+        saveChanges(storage, model);
+
+        // The segment of the full save replaced by the first edit is deleted, the one of the first edit is kept
+        assertEquals(SEGMENT_COUNT + 2, listFiles(segmentFolder).size());
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void prepareAddressBookChanges_personsAddedAndRenamed_orderKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, SEGMENT_COUNT);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        saveChanges(storage, model);
+
+        model.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Renamed").build());
+        model.addPerson(HOON);
+        model.deletePerson(ALICE);
+        saveChanges(storage, model);
+
+        // The positions of persons are read back with them, so later changes keep the order too
+        SegmentedAddressBookStorage reopenedStorage = new SegmentedAddressBookStorage(filePath, SEGMENT_COUNT);
+        assertEquals(model.getAddressBook(), new AddressBook(reopenedStorage.readAddressBook().get()));
+        model.addPerson(new PersonBuilder().withName("Segment Person").build());
+        model.setPerson(HOON, new PersonBuilder(HOON).withName("Hoon Renamed").build());
+        saveChanges(reopenedStorage, model);
+
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        assertTrue(listFiles(SegmentedAddressBookStorage.getSegmentFolderFor(filePath)).stream()
+                .noneMatch(file -> file.getFileName().toString().endsWith(".tmp")));
+    }
+
+    @Test
+    public void readAddressBook_missingSegment_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath, SEGMENT_COUNT);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Files.delete(listFiles(SegmentedAddressBookStorage.getSegmentFolderFor(filePath)).get(0));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void isManifestFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new SegmentedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Path binaryFilePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(SegmentedAddressBookStorage.isManifestFile(filePath));
+        assertFalse(SegmentedAddressBookStorage.isManifestFile(TYPICAL_PERSONS_FILE));
+        assertFalse(SegmentedAddressBookStorage.isManifestFile(binaryFilePath));
+        assertFalse(SegmentedAddressBookStorage.isManifestFile(testFolder.resolve("missing.json")));
+    }
+
+    /**
+     * Saves the unsaved changes of {@code model} with {@code storage}, as {@code LogicManager} does after a command.
+     */
+    private void saveChanges(SegmentedAddressBookStorage storage, Model model) throws IOException {
+        PendingSave pendingSave = storage.prepareAddressBookChanges(model.getAddressBook(), model.getUnsavedChanges());
+        model.getUnsavedChanges().clear();
+        pendingSave.save();
+    }
+
+    private static List<Path> listFiles(Path folder) throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+    }
+}
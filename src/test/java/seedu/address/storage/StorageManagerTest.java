@@ -60,6 +60,27 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void readAddressBook_fileInOtherFormat_formatDetected() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path jsonFilePath = getTempFilePath("ab.json");
+        Path binaryFilePath = getTempFilePath("ab.bin");
+        Path manifestFilePath = getTempFilePath("manifest.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(original);
+        new SegmentedAddressBookStorage(manifestFilePath).saveAddressBook(original);
+
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
+        StorageManager jsonStorageManager = new StorageManager(new JsonAddressBookStorage(jsonFilePath),
+                userPrefsStorage);
+        StorageManager binaryStorageManager = new StorageManager(new BinaryAddressBookStorage(binaryFilePath),
+                userPrefsStorage);
+        assertEquals(original, new AddressBook(jsonStorageManager.readAddressBook(binaryFilePath).get()));
+        assertEquals(original, new AddressBook(binaryStorageManager.readAddressBook(jsonFilePath).get()));
+        assertEquals(original, new AddressBook(jsonStorageManager.readAddressBook(manifestFilePath).get()));
+        assertEquals(original, new AddressBook(binaryStorageManager.readAddressBook(manifestFilePath).get()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
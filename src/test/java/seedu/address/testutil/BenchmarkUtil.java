@@ -0,0 +1,84 @@
+package seedu.address.testutil;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Times the workloads of the benchmarks in the test sources. The benchmarks are main classes rather than tests, as
+ * their times depend on the machine they run on.
+ */
+public class BenchmarkUtil {
+
+    public static final int WARM_UP_RUNS = 3;
+    public static final int MEASURED_RUNS = 5;
+
+    /**
+     * A workload to be timed.
+     */
+    @FunctionalInterface
+    public interface Workload {
+        void run() throws Exception;
+    }
+
+    /**
+     * The median time and mean memory allocated by the runs of a workload.
+     */
+    public static class Measurement {
+        private final double medianNanos;
+        private final double meanAllocatedBytes;
+
+        private Measurement(double medianNanos, double meanAllocatedBytes) {
+            this.medianNanos = medianNanos;
+            this.meanAllocatedBytes = meanAllocatedBytes;
+        }
+
+        public double getMedianNanos() {
+            return medianNanos;
+        }
+
+        /**
+         * Returns the mean number of bytes allocated by a run on the thread it was started on, which does not count
+         * the memory allocated by other threads the workload hands work to.
+         */
+        public double getMeanAllocatedBytes() {
+            return meanAllocatedBytes;
+        }
+    }
+
+    /**
+     * Runs {@code workload} {@link #WARM_UP_RUNS} times to warm up the JVM, then returns the median time in
+     * nanoseconds of {@link #MEASURED_RUNS} more runs.
+     */
+    public static double measureMedianNanos(Workload workload) throws Exception {
+        return measure(workload).getMedianNanos();
+    }
+
+    /**
+     * Similar to {@link #measureMedianNanos(Workload)}, but also measures the memory allocated by the runs.
+     */
+    public static Measurement measure(Workload workload) throws Exception {
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            workload.run();
+        }
+        List<Long> runNanos = new ArrayList<>();
+        long allocatedBytes = 0;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long startBytes = getAllocatedBytes();
+            long start = System.nanoTime();
+            workload.run();
+            runNanos.add(System.nanoTime() - start);
+            allocatedBytes += getAllocatedBytes() - startBytes;
+        }
+        Collections.sort(runNanos);
+        return new Measurement(runNanos.get(MEASURED_RUNS / 2), (double) allocatedBytes / MEASURED_RUNS);
+    }
+
+    /**
+     * Returns the bytes allocated so far by the current thread.
+     */
+    private static long getAllocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+}